@@ -1,10 +1,13 @@
 package com.gurukulams;
 
 import com.gurukulams.component.OrgLoader;
+import com.gurukulams.starter.store.MigrationCoordinator;
+import com.gurukulams.starter.store.Store;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ApplicationContext;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.context.event.EventListener;
 
@@ -35,19 +38,24 @@ public class Application {
 
     /**
      * This will be invoked one the application is started.
+     * Orgs are seeded in the background, once the core store is migrated.
      *
      * @param event
      */
     @EventListener
-    public void onApplicationEvent(final ContextRefreshedEvent event)
-            throws SQLException, IOException {
+    public void onApplicationEvent(final ContextRefreshedEvent event) {
         logger.info("Application Started at {}", event.getTimestamp());
 
-        OrgLoader orgLoader
-                = event.getApplicationContext()
-                .getBean(OrgLoader.class);
-        orgLoader.load();
-
+        final ApplicationContext context = event.getApplicationContext();
+        Thread.ofVirtual().name("org-loader").start(() -> {
+            try {
+                context.getBean(MigrationCoordinator.class)
+                        .await(Store.CORE);
+                context.getBean(OrgLoader.class).load();
+            } catch (final IOException | SQLException
+                           | RuntimeException e) {
+                logger.error("Unable to load orgs", e);
+            }
+        });
     }
 }
-
@@ -0,0 +1,85 @@
+package com.gurukulams.component;
+
+import com.gurukulams.payload.AnswerRequest;
+import com.gurukulams.payload.AnswerResult;
+import com.gurukulams.questionbank.service.AnswerService;
+import com.gurukulams.starter.store.ConnectionBoundDataSource;
+import jakarta.validation.ConstraintViolationException;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Answers a batch of questions.
+ * <p>
+ * Every batch takes a single connection of the question bank, and
+ * checks each answer on it in turn. An answer that fails validation is
+ * reported as not answered; any other failure fails the batch.
+ */
+public class BatchAnswerService {
+
+    /**
+     * Question Bank DataSource.
+     */
+    private final DataSource dataSource;
+
+    /**
+     * Answer Service on the connection bound to the calling thread.
+     */
+    private final AnswerService answerService;
+
+    /**
+     * Builds Batch Answer Service.
+     *
+     * @param theDataSource    Question Bank DataSource
+     * @param theAnswerService Answer Service on
+     *                         {@link ConnectionBoundDataSource#current()}
+     */
+    public BatchAnswerService(final DataSource theDataSource,
+                              final AnswerService theAnswerService) {
+        this.dataSource = theDataSource;
+        this.answerService = theAnswerService;
+    }
+
+    /**
+     * Answers the questions.
+     *
+     * @param answers the answers
+     * @return results, in the order of the answers
+     * @throws SQLException if the answers could not be checked
+     */
+    public List<AnswerResult> answer(final List<AnswerRequest> answers)
+            throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return ConnectionBoundDataSource.bind(connection, () -> {
+                final List<AnswerResult> results =
+                        new ArrayList<>(answers.size());
+                for (final AnswerRequest answer : answers) {
+                    results.add(check(answer));
+                }
+                return results;
+            });
+        }
+    }
+
+    /**
+     * Checks an answer.
+     *
+     * @param answer the answer
+     * @return result
+     * @throws SQLException if the answer could not be checked
+     */
+    private AnswerResult check(final AnswerRequest answer)
+            throws SQLException {
+        try {
+            return new AnswerResult(answer.questionId(), true,
+                    answerService.answer(answer.questionId(),
+                            answer.answer()));
+        } catch (final ConstraintViolationException e) {
+            return new AnswerResult(answer.questionId(), false, false);
+        }
+    }
+}
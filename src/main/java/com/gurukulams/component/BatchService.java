@@ -0,0 +1,287 @@
+package com.gurukulams.component;
+
+import com.gurukulams.payload.BatchRequest;
+import com.gurukulams.payload.BatchResponse;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.DispatcherServlet;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Runs the requests of a batch through the DispatcherServlet, in
+ * process, so that they share the authentication of the batch and skip
+ * the filters.
+ * <p>
+ * Requests run on virtual threads, at most max concurrent of a batch at
+ * a time, each with the security context of the batch. Only GETs of
+ * normal paths under /api are run; responses are returned in the order
+ * of the requests.
+ */
+public class BatchService implements AutoCloseable {
+
+    /**
+     * Logger Facility.
+     */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(BatchService.class);
+
+    /**
+     * Prefix of the paths that may be batched.
+     */
+    private static final String API = "/api/";
+
+    /**
+     * Path of the batch itself.
+     */
+    private static final String BATCH = "/api/_batch";
+
+    /**
+     * Symbols allowed in a path, besides letters and digits.
+     */
+    private static final String PATH_SYMBOLS = "/-._~!$&'()*+,=:@";
+
+    /**
+     * Characters from here on are not ASCII.
+     */
+    private static final int ASCII_LIMIT = 128;
+
+    /**
+     * Dispatcher Servlet.
+     */
+    private final DispatcherServlet dispatcherServlet;
+
+    /**
+     * Json Mapper.
+     */
+    private final JsonMapper jsonMapper;
+
+    /**
+     * Requests allowed in a batch.
+     */
+    private final int maxRequests;
+
+    /**
+     * Requests of a batch run at a time.
+     */
+    private final int maxConcurrent;
+
+    /**
+     * Runs every request on a virtual thread of its own.
+     */
+    private final ExecutorService executor =
+            Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("batch-", 0).factory());
+
+    /**
+     * Builds Batch Service.
+     *
+     * @param theDispatcherServlet
+     * @param theJsonMapper
+     * @param theMaxRequests   requests allowed in a batch
+     * @param theMaxConcurrent requests of a batch run at a time
+     */
+    public BatchService(final DispatcherServlet theDispatcherServlet,
+                        final JsonMapper theJsonMapper,
+                        final int theMaxRequests,
+                        final int theMaxConcurrent) {
+        this.dispatcherServlet = theDispatcherServlet;
+        this.jsonMapper = theJsonMapper;
+        this.maxRequests = theMaxRequests;
+        this.maxConcurrent = theMaxConcurrent;
+    }
+
+    /**
+     * Gets the requests allowed in a batch.
+     *
+     * @return maxRequests
+     */
+    public int getMaxRequests() {
+        return maxRequests;
+    }
+
+    /**
+     * Runs a batch.
+     * <p>
+     * The requests are checked and built here, on the thread of the
+     * batch, which is the only one to read the batch request.
+     *
+     * @param principal the principal of the batch
+     * @param requests  the requests
+     * @param request   the batch request
+     * @param response  the batch response
+     * @return responses, in the order of the requests
+     */
+    public List<BatchResponse> execute(final Principal principal,
+                                       final List<BatchRequest> requests,
+                                       final HttpServletRequest request,
+                                       final HttpServletResponse response) {
+        final Semaphore permits = new Semaphore(maxConcurrent);
+        final ExecutorService batchExecutor =
+                new DelegatingSecurityContextExecutorService(executor,
+                        SecurityContextHolder.getContext());
+        final List<Future<BatchResponse>> futures =
+                new ArrayList<>(requests.size());
+        for (final BatchRequest batchRequest : requests) {
+            final String method = batchRequest.method() == null
+                    ? HttpMethod.GET.name() : batchRequest.method();
+            final String path = batchRequest.path();
+            if (!isAllowed(path)) {
+                futures.add(CompletableFuture.completedFuture(
+                        error(HttpStatus.BAD_REQUEST)));
+            } else if (!HttpMethod.GET.matches(method)) {
+                futures.add(CompletableFuture.completedFuture(
+                        error(HttpStatus.METHOD_NOT_ALLOWED)));
+            } else {
+                final BatchSubRequest subRequest = new BatchSubRequest(
+                        request, method, path, principal);
+                final BatchSubResponse subResponse =
+                        new BatchSubResponse(response);
+                futures.add(batchExecutor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return dispatch(subRequest, subResponse);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+        }
+        final List<BatchResponse> responses =
+                new ArrayList<>(requests.size());
+        try {
+            for (final Future<BatchResponse> future : futures) {
+                responses.add(future.get());
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(
+                    "Interrupted while running the batch", e);
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            for (final Future<BatchResponse> future : futures) {
+                future.cancel(true);
+            }
+        }
+        return responses;
+    }
+
+    /**
+     * Whether the path may be batched. It is to be under /api, and
+     * already normal: no empty, dot or encoded segments, and nothing
+     * the firewall of the filter chain would reject, as batched
+     * requests do not pass through it.
+     *
+     * @param path the path, with its query
+     * @return true if allowed
+     */
+    private static boolean isAllowed(final String path) {
+        if (path == null) {
+            return false;
+        }
+        final int queryAt = path.indexOf('?');
+        final String pathOnly = queryAt < 0 ? path
+                : path.substring(0, queryAt);
+        if (!pathOnly.startsWith(API) || pathOnly.equals(BATCH)
+                || pathOnly.startsWith(BATCH + "/")) {
+            return false;
+        }
+        for (final String segment : pathOnly.substring(1).split("/", -1)) {
+            if (segment.isEmpty() || segment.equals(".")
+                    || segment.equals("..")) {
+                return false;
+            }
+        }
+        return pathOnly.chars().allMatch(c -> c < ASCII_LIMIT
+                && (Character.isLetterOrDigit(c)
+                || PATH_SYMBOLS.indexOf(c) >= 0));
+    }
+
+    /**
+     * Dispatches a request of the batch.
+     *
+     * @param subRequest  the request
+     * @param subResponse its response
+     * @return response
+     */
+    private BatchResponse dispatch(final BatchSubRequest subRequest,
+                                   final BatchSubResponse subResponse) {
+        try {
+            dispatcherServlet.service(subRequest, subResponse);
+        } catch (final ServletException | IOException
+                       | RuntimeException e) {
+            LOGGER.warn("Batched {} {} failed", subRequest.getMethod(),
+                    subRequest.getRequestURI(), e);
+            return error(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+        final HttpHeaders headers = subResponse.getHttpHeaders();
+        headers.remove(HttpHeaders.CONTENT_LENGTH);
+        return new BatchResponse(subResponse.getStatus(),
+                headers.toSingleValueMap(),
+                body(subResponse));
+    }
+
+    /**
+     * Reads the body of a response as json.
+     *
+     * @param subResponse the response
+     * @return body, null if empty
+     */
+    private JsonNode body(final BatchSubResponse subResponse) {
+        final byte[] bytes = subResponse.getBody();
+        if (bytes.length == 0) {
+            return null;
+        }
+        final String contentType = subResponse.getContentType();
+        if (contentType != null && contentType.contains("json")) {
+            try {
+                return jsonMapper.readTree(bytes);
+            } catch (final JacksonException e) {
+                LOGGER.debug("Batched response is not json", e);
+            }
+        }
+        return jsonMapper.getNodeFactory().stringNode(new String(bytes,
+                Charset.forName(subResponse.getCharacterEncoding())));
+    }
+
+    /**
+     * Builds a response with no body.
+     *
+     * @param status the status
+     * @return response
+     */
+    private static BatchResponse error(final HttpStatus status) {
+        return new BatchResponse(status.value(), Map.of(), null);
+    }
+
+    /**
+     * Stops the executor, interrupting the requests still running.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
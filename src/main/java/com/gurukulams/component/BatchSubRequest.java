@@ -0,0 +1,495 @@
+package com.gurukulams.component;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletMapping;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A request of a batch, dispatched on its own thread.
+ * <p>
+ * Everything it needs of the batch request, its headers included, is
+ * copied when it is built on the thread of the batch, as the container
+ * request is not to be read from other threads. Headers of the body,
+ * the encoding and the conditions of the batch are not copied. The
+ * attributes are its own, and it has no body and no session.
+ */
+final class BatchSubRequest extends HttpServletRequestWrapper {
+
+    /**
+     * Headers of the batch not shared with its requests.
+     */
+    private static final List<String> BATCH_HEADERS = List.of(
+            HttpHeaders.CONTENT_TYPE,
+            HttpHeaders.CONTENT_LENGTH,
+            HttpHeaders.TRANSFER_ENCODING,
+            HttpHeaders.ACCEPT_ENCODING,
+            HttpHeaders.IF_NONE_MATCH,
+            HttpHeaders.IF_MODIFIED_SINCE,
+            HttpHeaders.IF_MATCH,
+            HttpHeaders.IF_UNMODIFIED_SINCE,
+            HttpHeaders.IF_RANGE);
+
+    /**
+     * The method.
+     */
+    private final String method;
+
+    /**
+     * Path, with the context path.
+     */
+    private final String requestURI;
+
+    /**
+     * Query, as sent.
+     */
+    private final String queryString;
+
+    /**
+     * Parameters of the query, decoded.
+     */
+    private final Map<String, String[]> parameters;
+
+    /**
+     * The principal of the batch.
+     */
+    private final Principal principal;
+
+    /**
+     * Headers, copied from the batch.
+     */
+    private final HttpHeaders headers = new HttpHeaders();
+
+    /**
+     * Context path of the batch.
+     */
+    private final String contextPath;
+
+    /**
+     * Scheme of the batch.
+     */
+    private final String scheme;
+
+    /**
+     * Server name of the batch.
+     */
+    private final String serverName;
+
+    /**
+     * Server port of the batch.
+     */
+    private final int serverPort;
+
+    /**
+     * Whether the batch came over a secure channel.
+     */
+    private final boolean secure;
+
+    /**
+     * Protocol of the batch.
+     */
+    private final String protocol;
+
+    /**
+     * Remote address of the batch.
+     */
+    private final String remoteAddr;
+
+    /**
+     * Locales of the batch, preferred first.
+     */
+    private final List<Locale> locales;
+
+    /**
+     * Servlet context of the batch.
+     */
+    private final ServletContext servletContext;
+
+    /**
+     * Servlet mapping of the batch.
+     */
+    private final HttpServletMapping httpServletMapping;
+
+    /**
+     * Attributes of this request.
+     */
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+
+    /**
+     * Builds Batch Sub Request.
+     *
+     * @param batch      the batch request
+     * @param theMethod  the method
+     * @param path       the path, with its query
+     * @param thePrincipal the principal of the batch
+     */
+    BatchSubRequest(final HttpServletRequest batch,
+                    final String theMethod,
+                    final String path,
+                    final Principal thePrincipal) {
+        super(batch);
+        final UriComponents uri = UriComponentsBuilder.fromUriString(path)
+                .build();
+        this.method = theMethod;
+        this.contextPath = batch.getContextPath();
+        this.requestURI = contextPath + uri.getPath();
+        this.queryString = uri.getQuery();
+        this.parameters = decode(uri.getQueryParams());
+        this.principal = thePrincipal;
+        for (final String name : Collections.list(batch.getHeaderNames())) {
+            if (!isBatchHeader(name)) {
+                headers.addAll(name, Collections.list(batch.getHeaders(name)));
+            }
+        }
+        this.scheme = batch.getScheme();
+        this.serverName = batch.getServerName();
+        this.serverPort = batch.getServerPort();
+        this.secure = batch.isSecure();
+        this.protocol = batch.getProtocol();
+        this.remoteAddr = batch.getRemoteAddr();
+        this.locales = Collections.list(batch.getLocales());
+        this.servletContext = batch.getServletContext();
+        this.httpServletMapping = batch.getHttpServletMapping();
+    }
+
+    /**
+     * Decodes the parameters of the query.
+     *
+     * @param queryParams parameters, as sent
+     * @return parameters
+     */
+    private static Map<String, String[]> decode(
+            final MultiValueMap<String, String> queryParams) {
+        final Map<String, String[]> decoded = new LinkedHashMap<>();
+        queryParams.forEach((name, values) -> decoded.put(
+                URLDecoder.decode(name, StandardCharsets.UTF_8),
+                values.stream()
+                        .map(value -> value == null ? ""
+                                : URLDecoder.decode(value,
+                                        StandardCharsets.UTF_8))
+                        .toArray(String[]::new)));
+        return Collections.unmodifiableMap(decoded);
+    }
+
+    /**
+     * Whether the header belongs to the batch alone: its body, its
+     * encoding and its conditions. A request of the batch answered
+     * with gzip or 304 could not be embedded in the batch response.
+     *
+     * @param name name of the header
+     * @return true if not to be shared
+     */
+    private static boolean isBatchHeader(final String name) {
+        return BATCH_HEADERS.stream().anyMatch(name::equalsIgnoreCase);
+    }
+
+    @Override
+    public String getMethod() {
+        return method;
+    }
+
+    @Override
+    public String getRequestURI() {
+        return requestURI;
+    }
+
+    @Override
+    public StringBuffer getRequestURL() {
+        return new StringBuffer(getScheme()).append("://")
+                .append(getServerName()).append(':')
+                .append(getServerPort()).append(requestURI);
+    }
+
+    @Override
+    public String getServletPath() {
+        return requestURI.substring(getContextPath().length());
+    }
+
+    @Override
+    public String getPathInfo() {
+        return null;
+    }
+
+    @Override
+    public String getQueryString() {
+        return queryString;
+    }
+
+    @Override
+    public String getParameter(final String name) {
+        final String[] values = parameters.get(name);
+        return values == null || values.length == 0 ? null : values[0];
+    }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+        return parameters;
+    }
+
+    @Override
+    public Enumeration<String> getParameterNames() {
+        return Collections.enumeration(parameters.keySet());
+    }
+
+    @Override
+    public String[] getParameterValues(final String name) {
+        return parameters.get(name);
+    }
+
+    @Override
+    public Object getAttribute(final String name) {
+        return attributes.get(name);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        return Collections.enumeration(List.copyOf(attributes.keySet()));
+    }
+
+    @Override
+    public void setAttribute(final String name, final Object value) {
+        if (value == null) {
+            attributes.remove(name);
+        } else {
+            attributes.put(name, value);
+        }
+    }
+
+    @Override
+    public void removeAttribute(final String name) {
+        attributes.remove(name);
+    }
+
+    @Override
+    public String getHeader(final String name) {
+        return headers.getFirst(name);
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(final String name) {
+        final List<String> values = headers.get(name);
+        return values == null ? Collections.emptyEnumeration()
+                : Collections.enumeration(values);
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+        return Collections.enumeration(headers.headerNames());
+    }
+
+    @Override
+    public long getDateHeader(final String name) {
+        return headers.getFirstDate(name);
+    }
+
+    @Override
+    public int getIntHeader(final String name) {
+        final String value = headers.getFirst(name);
+        return value == null ? -1 : Integer.parseInt(value);
+    }
+
+    @Override
+    public String getContextPath() {
+        return contextPath;
+    }
+
+    @Override
+    public String getScheme() {
+        return scheme;
+    }
+
+    @Override
+    public String getServerName() {
+        return serverName;
+    }
+
+    @Override
+    public int getServerPort() {
+        return serverPort;
+    }
+
+    @Override
+    public boolean isSecure() {
+        return secure;
+    }
+
+    @Override
+    public String getProtocol() {
+        return protocol;
+    }
+
+    @Override
+    public String getRemoteAddr() {
+        return remoteAddr;
+    }
+
+    @Override
+    public String getRemoteHost() {
+        return remoteAddr;
+    }
+
+    @Override
+    public Locale getLocale() {
+        return locales.getFirst();
+    }
+
+    @Override
+    public Enumeration<Locale> getLocales() {
+        return Collections.enumeration(locales);
+    }
+
+    @Override
+    public String getCharacterEncoding() {
+        return StandardCharsets.UTF_8.name();
+    }
+
+    @Override
+    public ServletContext getServletContext() {
+        return servletContext;
+    }
+
+    @Override
+    public HttpServletMapping getHttpServletMapping() {
+        return httpServletMapping;
+    }
+
+    @Override
+    public Cookie[] getCookies() {
+        return null;
+    }
+
+    @Override
+    public HttpSession getSession(final boolean create) {
+        if (create) {
+            throw new IllegalStateException("No session in a batch");
+        }
+        return null;
+    }
+
+    @Override
+    public HttpSession getSession() {
+        return getSession(true);
+    }
+
+    @Override
+    public String getRequestedSessionId() {
+        return null;
+    }
+
+    @Override
+    public boolean isRequestedSessionIdValid() {
+        return false;
+    }
+
+    @Override
+    public String getRemoteUser() {
+        return principal == null ? null : principal.getName();
+    }
+
+    @Override
+    public String getContentType() {
+        return null;
+    }
+
+    @Override
+    public int getContentLength() {
+        return -1;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        return -1;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        return new ServletInputStream() {
+            @Override
+            public boolean isFinished() {
+                return true;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setReadListener(final ReadListener readListener) {
+                // There is no body, so it is all read already
+                try {
+                    readListener.onAllDataRead();
+                } catch (final IOException e) {
+                    readListener.onError(e);
+                }
+            }
+
+            @Override
+            public int read() {
+                return -1;
+            }
+        };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        return new BufferedReader(new StringReader(""));
+    }
+
+    @Override
+    public Principal getUserPrincipal() {
+        return principal;
+    }
+
+    @Override
+    public DispatcherType getDispatcherType() {
+        return DispatcherType.REQUEST;
+    }
+
+    @Override
+    public boolean isAsyncSupported() {
+        return false;
+    }
+
+    @Override
+    public boolean isAsyncStarted() {
+        return false;
+    }
+
+    @Override
+    public AsyncContext startAsync() {
+        throw new IllegalStateException("Not supported in a batch");
+    }
+
+    @Override
+    public AsyncContext startAsync(final ServletRequest servletRequest,
+                                   final ServletResponse servletResponse) {
+        throw new IllegalStateException("Not supported in a batch");
+    }
+}
@@ -0,0 +1,275 @@
+package com.gurukulams.component;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Response to a request of a batch, captured in memory.
+ * <p>
+ * Nothing is written to the response of the batch, which other threads
+ * share.
+ */
+final class BatchSubResponse extends HttpServletResponseWrapper {
+
+    /**
+     * The body.
+     */
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+    /**
+     * The headers.
+     */
+    private final HttpHeaders headers = new HttpHeaders();
+
+    /**
+     * The status.
+     */
+    private int status = HttpStatus.OK.value();
+
+    /**
+     * The character encoding.
+     */
+    private String characterEncoding = StandardCharsets.UTF_8.name();
+
+    /**
+     * Writer over the body, once asked for.
+     */
+    private PrintWriter writer;
+
+    /**
+     * Builds Batch Sub Response.
+     *
+     * @param batch the batch response
+     */
+    BatchSubResponse(final HttpServletResponse batch) {
+        super(batch);
+    }
+
+    /**
+     * Gets the body written.
+     *
+     * @return body
+     */
+    byte[] getBody() {
+        if (writer != null) {
+            writer.flush();
+        }
+        return body.toByteArray();
+    }
+
+    /**
+     * Gets the headers written.
+     *
+     * @return headers
+     */
+    HttpHeaders getHttpHeaders() {
+        return headers;
+    }
+
+    @Override
+    public int getStatus() {
+        return status;
+    }
+
+    @Override
+    public void setStatus(final int sc) {
+        this.status = sc;
+    }
+
+    @Override
+    public void sendError(final int sc) {
+        this.status = sc;
+    }
+
+    @Override
+    public void sendError(final int sc, final String msg) {
+        this.status = sc;
+    }
+
+    @Override
+    public void sendRedirect(final String location) {
+        this.status = HttpStatus.FOUND.value();
+        headers.set(HttpHeaders.LOCATION, location);
+    }
+
+    @Override
+    public boolean containsHeader(final String name) {
+        return headers.containsHeader(name);
+    }
+
+    @Override
+    public String getHeader(final String name) {
+        return headers.getFirst(name);
+    }
+
+    @Override
+    public Collection<String> getHeaders(final String name) {
+        final List<String> values = headers.get(name);
+        return values == null ? List.of() : values;
+    }
+
+    @Override
+    public Collection<String> getHeaderNames() {
+        return headers.headerNames();
+    }
+
+    @Override
+    public void setHeader(final String name, final String value) {
+        headers.set(name, value);
+    }
+
+    @Override
+    public void addHeader(final String name, final String value) {
+        headers.add(name, value);
+    }
+
+    @Override
+    public void setIntHeader(final String name, final int value) {
+        headers.set(name, String.valueOf(value));
+    }
+
+    @Override
+    public void addIntHeader(final String name, final int value) {
+        headers.add(name, String.valueOf(value));
+    }
+
+    @Override
+    public void setDateHeader(final String name, final long date) {
+        headers.setDate(name, date);
+    }
+
+    @Override
+    public void addDateHeader(final String name, final long date) {
+        headers.add(name, DateTimeFormatter.RFC_1123_DATE_TIME
+                .format(Instant.ofEpochMilli(date).atZone(ZoneOffset.UTC)));
+    }
+
+    @Override
+    public void addCookie(final Cookie cookie) {
+        // Cookies are not part of a batch response
+    }
+
+    @Override
+    public String getContentType() {
+        return headers.getFirst(HttpHeaders.CONTENT_TYPE);
+    }
+
+    @Override
+    public void setContentType(final String type) {
+        headers.set(HttpHeaders.CONTENT_TYPE, type);
+    }
+
+    @Override
+    public String getCharacterEncoding() {
+        return characterEncoding;
+    }
+
+    @Override
+    public void setCharacterEncoding(final String charset) {
+        this.characterEncoding = charset;
+    }
+
+    @Override
+    public void setContentLength(final int len) {
+        // Known from the body
+    }
+
+    @Override
+    public void setContentLengthLong(final long len) {
+        // Known from the body
+    }
+
+    @Override
+    public void setLocale(final Locale loc) {
+        // The locale of the batch stays
+    }
+
+    @Override
+    public void setBufferSize(final int size) {
+        // Buffered entirely
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        return new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(final WriteListener writeListener) {
+                // Held in memory, the body can always be written
+                try {
+                    writeListener.onWritePossible();
+                } catch (final IOException e) {
+                    writeListener.onError(e);
+                }
+            }
+
+            @Override
+            public void write(final int b) {
+                body.write(b);
+            }
+
+            @Override
+            public void write(final byte[] b, final int off, final int len) {
+                body.write(b, off, len);
+            }
+        };
+    }
+
+    @Override
+    public PrintWriter getWriter() {
+        if (writer == null) {
+            writer = new PrintWriter(new OutputStreamWriter(body,
+                    Charset.forName(characterEncoding)));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    @Override
+    public boolean isCommitted() {
+        return false;
+    }
+
+    @Override
+    public void reset() {
+        resetBuffer();
+        headers.clear();
+        status = HttpStatus.OK.value();
+    }
+
+    @Override
+    public void resetBuffer() {
+        if (writer != null) {
+            writer.flush();
+        }
+        body.reset();
+    }
+}
@@ -0,0 +1,224 @@
+package com.gurukulams.component;
+
+import com.gurukulams.core.model.Org;
+import com.gurukulams.core.payload.Profile;
+import com.gurukulams.core.service.OrgService;
+import com.gurukulams.core.service.ProfileService;
+import com.gurukulams.event.model.Event;
+import com.gurukulams.event.service.EventService;
+import com.gurukulams.payload.Dashboard;
+import com.gurukulams.starter.store.Bulkheads;
+import com.gurukulams.starter.store.MigrationCoordinator;
+import com.gurukulams.starter.store.Store;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Reads the parts of a dashboard concurrently, each on a virtual
+ * thread, so that it takes as long as its slowest part.
+ * <p>
+ * The parts share one deadline of the part timeout. A part that fails
+ * or misses the deadline is left out of the dashboard, and every part
+ * still running is cancelled before the dashboard is returned.
+ * <p>
+ * Each part goes through the bulkhead of its store, and is left out
+ * at once while its store is not ready. Parts run on a bounded pool;
+ * beyond it they are left out rather than queued without limit.
+ * Cancelling does not stop a query, so an abandoned part holds its
+ * thread till the call timeout of its store.
+ */
+public class DashboardService implements AutoCloseable {
+
+    /**
+     * Logger Facility.
+     */
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(DashboardService.class);
+
+    /**
+     * Profile Service.
+     */
+    private final ProfileService profileService;
+
+    /**
+     * Org Service.
+     */
+    private final OrgService orgService;
+
+    /**
+     * Event Service.
+     */
+    private final EventService eventService;
+
+    /**
+     * Time within which the parts are to be read.
+     */
+    private final Duration partTimeout;
+
+    /**
+     * Bulkhead of each store.
+     */
+    private final Bulkheads bulkheads;
+
+    /**
+     * Coordinator knowing whether a store is ready.
+     */
+    private final MigrationCoordinator migrationCoordinator;
+
+    /**
+     * Runs the parts on at most so many virtual threads, with as many
+     * parts waiting.
+     */
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Builds Dashboard Service.
+     *
+     * @param theProfileService      reads the profile and its buddies
+     * @param theOrgService          reads the orgs of the profile
+     * @param theEventService        reads the events of the user
+     * @param theBulkheads           bulkhead of each store
+     * @param theMigrationCoordinator knows whether a store is ready
+     * @param thePartTimeout         time within which the parts are
+     *                               to be read
+     * @param maxConcurrent          parts read at a time
+     */
+    public DashboardService(final ProfileService theProfileService,
+                            final OrgService theOrgService,
+                            final EventService theEventService,
+                            final Bulkheads theBulkheads,
+                            final MigrationCoordinator
+                                    theMigrationCoordinator,
+                            final Duration thePartTimeout,
+                            final int maxConcurrent) {
+        this.profileService = theProfileService;
+        this.orgService = theOrgService;
+        this.eventService = theEventService;
+        this.bulkheads = theBulkheads;
+        this.migrationCoordinator = theMigrationCoordinator;
+        this.partTimeout = thePartTimeout;
+        this.executor = new ThreadPoolExecutor(maxConcurrent, maxConcurrent,
+                1, TimeUnit.MINUTES,
+                new ArrayBlockingQueue<>(maxConcurrent),
+                Thread.ofVirtual().name("dashboard-", 0).factory());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Reads the dashboard of a profile.
+     *
+     * @param userName
+     * @param id       id of the profile
+     * @param locale
+     * @return dashboard, empty if there is no such profile
+     */
+    public Optional<Dashboard> read(final String userName,
+                                    final String id,
+                                    final Locale locale) {
+        final Future<Optional<Profile>> profile = submit(Store.CORE,
+                () -> profileService.read(id));
+        final Future<List<Org>> orgs = submit(Store.CORE,
+                () -> orgService.getOrganizationsOf(id, locale));
+        final Future<List<Profile>> buddies = submit(Store.CORE,
+                () -> profileService.getBuddies(id));
+        final Future<List<Event>> events = submit(Store.EVENTS,
+                () -> eventService.list(userName, locale));
+
+        final long deadline = System.nanoTime() + partTimeout.toNanos();
+        final List<String> unavailable = new ArrayList<>();
+        try {
+            final Optional<Profile> readProfile =
+                    join("profile", profile, deadline, unavailable);
+            if (readProfile != null && readProfile.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(new Dashboard(
+                    readProfile == null ? null : readProfile.get(),
+                    join("orgs", orgs, deadline, unavailable),
+                    join("buddies", buddies, deadline, unavailable),
+                    join("events", events, deadline, unavailable),
+                    List.copyOf(unavailable)));
+        } finally {
+            for (final Future<?> part
+                    : List.of(profile, orgs, buddies, events)) {
+                part.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Submits a part, to be read through the bulkhead of its store.
+     *
+     * @param store the store of the part
+     * @param part  reads the part
+     * @param <T>   type of the part
+     * @return part, failed if its store is not ready or the pool is full
+     */
+    private <T> Future<T> submit(final Store store,
+                                 final Callable<T> part) {
+        if (!migrationCoordinator.isReady(store)) {
+            return CompletableFuture.failedFuture(
+                    new IllegalStateException(store + " is not ready yet"));
+        }
+        try {
+            return executor.submit(() -> bulkheads.get(store).call(part));
+        } catch (final RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Waits for a part till the deadline.
+     *
+     * @param name        name of the part
+     * @param part        the part
+     * @param deadline    nano time by which the part is to be read
+     * @param unavailable names of the parts not read
+     * @param <T>         type of the part
+     * @return part, null if not read
+     */
+    private <T> T join(final String name,
+                       final Future<T> part,
+                       final long deadline,
+                       final List<String> unavailable) {
+        try {
+            return part.get(Math.max(0, deadline - System.nanoTime()),
+                    TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException e) {
+            LOGGER.warn("Dashboard part {} timed out after {}",
+                    name, partTimeout);
+        } catch (final ExecutionException e) {
+            LOGGER.warn("Dashboard part {} failed: {}", name,
+                    e.getCause().toString());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(
+                    "Interrupted while reading the dashboard", e);
+        }
+        unavailable.add(name);
+        return null;
+    }
+
+    /**
+     * Stops the executor, interrupting the parts still being read.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
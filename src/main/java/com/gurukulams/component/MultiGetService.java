@@ -0,0 +1,202 @@
+package com.gurukulams.component;
+
+import com.gurukulams.core.DataManager;
+import com.gurukulams.core.model.Org;
+import com.gurukulams.core.payload.Profile;
+import com.gurukulams.core.service.LearnerProfileService;
+import com.gurukulams.core.service.LearnerService;
+import com.gurukulams.core.service.OrgService;
+import com.gurukulams.core.service.ProfileService;
+import com.gurukulams.event.model.Event;
+import com.gurukulams.event.service.EventService;
+import com.gurukulams.payload.MultiGetResult;
+import com.gurukulams.starter.store.ConnectionBoundDataSource;
+import jakarta.validation.Validator;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Reads many orgs, profiles or events at once.
+ * <p>
+ * Every multi get takes a single connection of its store, and reads
+ * each distinct id once on it. Results follow the order of the ids,
+ * repeats included, with the ids not found marked so.
+ */
+public class MultiGetService {
+
+    /**
+     * Core DataSource.
+     */
+    private final DataSource dataSource;
+
+    /**
+     * Events DataSource.
+     */
+    private final DataSource eventsDataSource;
+
+    /**
+     * Core Data Manager.
+     */
+    private final DataManager dataManager;
+
+    /**
+     * Validator.
+     */
+    private final Validator validator;
+
+    /**
+     * Ids allowed in a multi get.
+     */
+    private final int maxIds;
+
+    /**
+     * Builds Multi Get Service.
+     *
+     * @param theDataSource       core DataSource
+     * @param theEventsDataSource events DataSource
+     * @param theDataManager      core Data Manager
+     * @param theValidator        validator of the profile services
+     * @param theMaxIds           ids allowed in a multi get
+     */
+    public MultiGetService(final DataSource theDataSource,
+                           final DataSource theEventsDataSource,
+                           final DataManager theDataManager,
+                           final Validator theValidator,
+                           final int theMaxIds) {
+        this.dataSource = theDataSource;
+        this.eventsDataSource = theEventsDataSource;
+        this.dataManager = theDataManager;
+        this.validator = theValidator;
+        this.maxIds = theMaxIds;
+    }
+
+    /**
+     * Gets the ids allowed in a multi get.
+     *
+     * @return maxIds
+     */
+    public int getMaxIds() {
+        return maxIds;
+    }
+
+    /**
+     * Reads orgs.
+     *
+     * @param userName the user reading them
+     * @param ids      the org ids
+     * @param locale   locale of the orgs, null for the default
+     * @return results, in the order of the ids
+     */
+    public List<MultiGetResult<Org>> readOrgs(final String userName,
+                                              final List<String> ids,
+                                              final Locale locale)
+            throws SQLException {
+        return readAll(dataSource, ids, boundDataSource -> {
+            final OrgService orgService =
+                    new OrgService(boundDataSource, dataManager);
+            return id -> orgService.read(userName, id, locale);
+        });
+    }
+
+    /**
+     * Reads profiles.
+     *
+     * @param ids the user names of the profiles
+     * @return results, in the order of the ids
+     */
+    public List<MultiGetResult<Profile>> readProfiles(final List<String> ids)
+            throws SQLException {
+        return readAll(dataSource, ids, boundDataSource -> {
+            final ProfileService profileService = new ProfileService(
+                    boundDataSource,
+                    dataManager,
+                    new LearnerService(boundDataSource, dataManager,
+                            validator),
+                    new LearnerProfileService(boundDataSource, dataManager,
+                            validator),
+                    new OrgService(boundDataSource, dataManager));
+            return profileService::read;
+        });
+    }
+
+    /**
+     * Reads events.
+     *
+     * @param userName the user reading them
+     * @param ids      the event ids
+     * @param locale   locale of the events, null for the default
+     * @return results, in the order of the ids
+     */
+    public List<MultiGetResult<Event>> readEvents(final String userName,
+                                                  final List<UUID> ids,
+                                                  final Locale locale)
+            throws SQLException {
+        return readAll(eventsDataSource, ids, boundDataSource -> {
+            final EventService eventService = new EventService(
+                    boundDataSource,
+                    com.gurukulams.event.DataManager.getManager(),
+                    validator);
+            return id -> eventService.read(userName, id, locale);
+        });
+    }
+
+    /**
+     * Reads each distinct id once, on a single connection.
+     *
+     * @param store    DataSource of the store
+     * @param ids      the ids
+     * @param readerOf reader over a DataSource bound to the connection
+     * @param <K>      type of the ids
+     * @param <T>      type of the resources
+     * @return results, in the order of the ids
+     */
+    private static <K, T> List<MultiGetResult<T>> readAll(
+            final DataSource store,
+            final List<K> ids,
+            final Function<DataSource, Reader<K, T>> readerOf)
+            throws SQLException {
+        final Map<K, Optional<T>> values = new HashMap<>();
+        try (Connection connection = store.getConnection()) {
+            final Reader<K, T> reader =
+                    readerOf.apply(ConnectionBoundDataSource.of(connection));
+            for (final K id : new LinkedHashSet<>(ids)) {
+                values.put(id, reader.read(id));
+            }
+        }
+        return ids.stream()
+                .map(id -> {
+                    final Optional<T> value = values.get(id);
+                    return new MultiGetResult<>(id.toString(),
+                            value.isPresent(), value.orElse(null));
+                })
+                .toList();
+    }
+
+    /**
+     * Reads a resource by its id.
+     *
+     * @param <K> type of the id
+     * @param <T> type of the resource
+     */
+    @FunctionalInterface
+    private interface Reader<K, T> {
+
+        /**
+         * Reads the resource.
+         *
+         * @param id the id
+         * @return resource, empty if not found
+         */
+        Optional<T> read(K id) throws SQLException;
+    }
+}
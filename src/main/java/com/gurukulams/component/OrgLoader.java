@@ -1,24 +1,64 @@
 package com.gurukulams.component;
 
+import com.gurukulams.core.DataManager;
 import com.gurukulams.core.model.Org;
 import com.gurukulams.core.service.OrgService;
+import com.gurukulams.starter.store.ConnectionBoundDataSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import tools.jackson.core.type.TypeReference;
 import tools.jackson.databind.json.JsonMapper;
 
-import java.io.BufferedReader;
+import javax.sql.DataSource;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.HexFormat;
 import java.util.List;
+
+/**
+ * Seeds the orgs of orgs.json.
+ * <p>
+ * The seed runs in a single transaction and records the checksum of
+ * orgs.json along with the orgs, so it is skipped till the file
+ * changes.
+ */
 public class OrgLoader {
     /**
      * Quetion Owner.
      */
     public static final String USER_NAME = "tom@email.com";
 
+    /**
+     * Name of the seed.
+     */
+    private static final String SEED = "orgs.json";
+
+    /**
+     * Select Checksum Query.
+     */
+    private static final String SELECT_CHECKSUM =
+            "SELECT checksum FROM seed_checksums WHERE seed = ?";
+
+    /**
+     * Update Checksum Query.
+     */
+    private static final String UPDATE_CHECKSUM = "UPDATE seed_checksums "
+            + "SET checksum = ?, applied_at = CURRENT_TIMESTAMP "
+            + "WHERE seed = ?";
+
+    /**
+     * Insert Checksum Query.
+     */
+    private static final String INSERT_CHECKSUM = "INSERT INTO "
+            + "seed_checksums(seed, checksum, applied_at) "
+            + "VALUES (?, ?, CURRENT_TIMESTAMP)";
+
     /**
      * Logger.
      */
@@ -26,9 +66,14 @@ public class OrgLoader {
             LoggerFactory.getLogger(OrgLoader.class);
 
     /**
-     * Org Service.
+     * DataSource.
+     */
+    private final DataSource dataSource;
+
+    /**
+     * Data Manager.
      */
-    private final OrgService orgService;
+    private final DataManager dataManager;
 
     /**
      * Json Mapper.
@@ -38,27 +83,61 @@ public class OrgLoader {
     /**
      * OrgsLoader.
      *
-     * @param theOrgService
+     * @param theDataSource
+     * @param theDataManager
      * @param theJsonMapper
      */
-    public OrgLoader(final OrgService theOrgService,
+    public OrgLoader(final DataSource theDataSource,
+                     final DataManager theDataManager,
                      final JsonMapper theJsonMapper) {
-        this.orgService = theOrgService;
+        this.dataSource = theDataSource;
+        this.dataManager = theDataManager;
         this.jsonMapper = theJsonMapper;
     }
 
     /**
-     * Loads Orgs.
+     * Loads Orgs, unless orgs.json is loaded already.
+     *
+     * @return true if loaded
      */
-    public void load() throws IOException, SQLException {
-//        orgService.delete();
-        InputStream is = getClass().getClassLoader()
-                .getResourceAsStream("orgs.json");
-        BufferedReader reader
-                = new BufferedReader(new InputStreamReader(is));
-        List<Org> orgs = jsonMapper.readValue(reader,
-                new TypeReference<List<Org>>() { });
+    public boolean load() throws IOException, SQLException {
+        final byte[] content;
+        try (InputStream is = getClass().getClassLoader()
+                .getResourceAsStream(SEED)) {
+            content = is.readAllBytes();
+        }
+        final String checksum = checksum(content);
 
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                if (checksum.equals(getChecksum(connection))) {
+                    connection.rollback();
+                    logger.info("{} is loaded already", SEED);
+                    return false;
+                }
+                upsert(connection, jsonMapper.readValue(content,
+                        new TypeReference<List<Org>>() { }));
+                setChecksum(connection, checksum);
+                connection.commit();
+            } catch (final SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creates or updates the orgs on the connection.
+     *
+     * @param connection
+     * @param orgs
+     */
+    private void upsert(final Connection connection,
+                        final List<Org> orgs) throws SQLException {
+        final OrgService orgService = new OrgService(
+                ConnectionBoundDataSource.of(connection), dataManager);
         for (Org org : orgs) {
 
             if (orgService.read(USER_NAME, "org-" + org.userHandle(), null)
@@ -71,4 +150,60 @@ public class OrgLoader {
             }
         }
     }
+
+    /**
+     * Gets the checksum of the last load.
+     *
+     * @param connection
+     * @return checksum, null if never loaded
+     */
+    private String getChecksum(final Connection connection)
+            throws SQLException {
+        try (PreparedStatement ps =
+                     connection.prepareStatement(SELECT_CHECKSUM)) {
+            ps.setString(1, SEED);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? rs.getString(1) : null;
+            }
+        }
+    }
+
+    /**
+     * Records the checksum of this load.
+     *
+     * @param connection
+     * @param checksum
+     */
+    private void setChecksum(final Connection connection,
+                             final String checksum) throws SQLException {
+        try (PreparedStatement ps =
+                     connection.prepareStatement(UPDATE_CHECKSUM)) {
+            ps.setString(1, checksum);
+            ps.setString(2, SEED);
+            if (ps.executeUpdate() > 0) {
+                return;
+            }
+        }
+        try (PreparedStatement ps =
+                     connection.prepareStatement(INSERT_CHECKSUM)) {
+            ps.setString(1, SEED);
+            ps.setString(2, checksum);
+            ps.executeUpdate();
+        }
+    }
+
+    /**
+     * Computes the checksum of the content.
+     *
+     * @param content
+     * @return checksum
+     */
+    private static String checksum(final byte[] content) {
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -0,0 +1,215 @@
+package com.gurukulams.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.gurukulams.questionbank.payload.Question;
+import com.gurukulams.questionbank.service.QuestionService;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Caches question listings by user, categories and locale, serialized
+ * once as JSON (and gzip when large enough) so that hits skip Jackson.
+ * The user is part of the key, as a listing is read on behalf of its
+ * user and may differ between users.
+ * <p>
+ * Concurrent misses of a listing share a single load. A listing
+ * loaded while its categories were modified is dropped after use.
+ */
+public class QuestionCacheService {
+
+    /**
+     * Listings smaller than this are not compressed.
+     */
+    private static final int MIN_GZIP_LENGTH = 1024;
+
+    /**
+     * Question Service.
+     */
+    private final QuestionService questionService;
+
+    /**
+     * Json Mapper.
+     */
+    private final JsonMapper jsonMapper;
+
+    /**
+     * Listings by key.
+     */
+    private final Cache<Object, Object> listings;
+
+    /**
+     * Incremented on every eviction.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Builds Question Cache Service.
+     *
+     * @param theQuestionService
+     * @param theJsonMapper
+     * @param theListings
+     */
+    public QuestionCacheService(final QuestionService theQuestionService,
+                                final JsonMapper theJsonMapper,
+                                final Cache<Object, Object> theListings) {
+        this.questionService = theQuestionService;
+        this.jsonMapper = theJsonMapper;
+        this.listings = theListings;
+    }
+
+    /**
+     * Lists questions of the categories.
+     *
+     * @param userName
+     * @param locale
+     * @param categories
+     * @return listing
+     */
+    public Listing list(final String userName,
+                        final Locale locale,
+                        final List<String> categories) throws SQLException {
+        final Key key = new Key(userName, categories, locale);
+        final long loadedAt = generation.get();
+        final Listing listing;
+        try {
+            listing = (Listing) listings.get(key, k ->
+                    load(userName, locale, categories));
+        } catch (final ListingException e) {
+            throw e.getCause();
+        }
+        if (generation.get() != loadedAt) {
+            listings.asMap().remove(key, listing);
+        }
+        return listing;
+    }
+
+    /**
+     * Evicts listings sharing any of the categories.
+     * All listings are evicted when categories are empty.
+     *
+     * @param categories
+     */
+    public void evict(final List<String> categories) {
+        generation.incrementAndGet();
+        if (categories.isEmpty()) {
+            listings.invalidateAll();
+        } else {
+            listings.asMap().keySet().removeIf(key ->
+                    !Collections.disjoint(((Key) key).categories(),
+                            categories));
+        }
+    }
+
+    /**
+     * Loads a listing.
+     *
+     * @param userName
+     * @param locale
+     * @param categories
+     * @return listing
+     */
+    private Listing load(final String userName,
+                         final Locale locale,
+                         final List<String> categories) {
+        try {
+            final List<Question> questions =
+                    questionService.list(userName, locale, categories);
+            final byte[] json = jsonMapper.writeValueAsBytes(questions);
+            return new Listing(questions.isEmpty(), json, gzip(json),
+                    etag(json));
+        } catch (final SQLException e) {
+            throw new ListingException(e);
+        }
+    }
+
+    /**
+     * Compresses the content, if large enough.
+     *
+     * @param content
+     * @return gzip content, null if not compressed
+     */
+    private static byte[] gzip(final byte[] content) {
+        if (content.length < MIN_GZIP_LENGTH) {
+            return null;
+        }
+        final ByteArrayOutputStream out =
+                new ByteArrayOutputStream(content.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Computes an ETag of the content.
+     *
+     * @param content
+     * @return etag
+     */
+    private static String etag(final byte[] content) {
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Key of a listing.
+     *
+     * @param userName
+     * @param categories
+     * @param locale
+     */
+    private record Key(String userName, List<String> categories,
+                       Locale locale) {
+    }
+
+    /**
+     * A cached listing. The byte arrays are shared and must not be
+     * modified.
+     *
+     * @param empty whether there are no questions
+     * @param json  the questions as UTF-8 JSON
+     * @param gzip  the gzip JSON, null if not compressed
+     * @param etag  the etag of the JSON
+     */
+    public record Listing(boolean empty, byte[] json, byte[] gzip,
+                          String etag) {
+    }
+
+    /**
+     * Carries a SQLException out of the cache loader.
+     */
+    private static final class ListingException extends RuntimeException {
+
+        /**
+         * Builds Listing Exception.
+         *
+         * @param cause
+         */
+        ListingException(final SQLException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized SQLException getCause() {
+            return (SQLException) super.getCause();
+        }
+    }
+}
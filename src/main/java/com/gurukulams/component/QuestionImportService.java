@@ -0,0 +1,212 @@
+package com.gurukulams.component;
+
+import com.gurukulams.payload.ImportResult;
+import com.gurukulams.questionbank.payload.Question;
+import com.gurukulams.questionbank.payload.QuestionType;
+import com.gurukulams.questionbank.service.QuestionService;
+import com.gurukulams.starter.exception.ImportStoppedException;
+import com.gurukulams.starter.store.ConnectionBoundDataSource;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.sql.DataSource;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Imports questions streamed as NDJSON or a JSON array.
+ * <p>
+ * Records are parsed one at a time and validated into a chunk. Only
+ * then is a connection borrowed, to create the chunk in a transaction
+ * of its own, so the upload is never read while holding a connection.
+ * Invalid records are reported and skipped. A record that can not be
+ * written rolls its chunk back and stops the import, reporting the
+ * chunks written before it.
+ */
+public class QuestionImportService {
+
+    /**
+     * Validator.
+     */
+    private final Validator validator;
+
+    /**
+     * Question Bank DataSource.
+     */
+    private final DataSource dataSource;
+
+    /**
+     * Question Service on the connection bound to the calling thread.
+     */
+    private final QuestionService questionService;
+
+    /**
+     * Json Mapper.
+     */
+    private final JsonMapper jsonMapper;
+
+    /**
+     * Records per transaction.
+     */
+    private final int chunkSize;
+
+    /**
+     * Builds Question Import Service.
+     *
+     * @param theValidator       validator of the questions
+     * @param theDataSource       Question Bank DataSource
+     * @param theQuestionService  Question Service on
+     *                            {@link ConnectionBoundDataSource#current()}
+     * @param theJsonMapper       Json Mapper
+     * @param theChunkSize        records per transaction
+     */
+    public QuestionImportService(final Validator theValidator,
+                                 final DataSource theDataSource,
+                                 final QuestionService theQuestionService,
+                                 final JsonMapper theJsonMapper,
+                                 final int theChunkSize) {
+        this.validator = theValidator;
+        this.dataSource = theDataSource;
+        this.questionService = theQuestionService;
+        this.jsonMapper = theJsonMapper;
+        this.chunkSize = theChunkSize;
+    }
+
+    /**
+     * Imports questions.
+     *
+     * @param inputStream  NDJSON or JSON array of questions
+     * @param categories   the categories
+     * @param questionType the question type
+     * @param locale       the locale
+     * @param userName     the user
+     * @return result
+     * @throws ImportStoppedException if a chunk could not be written,
+     *                                with the chunks written before it
+     */
+    public ImportResult importQuestions(final InputStream inputStream,
+                                        final List<String> categories,
+                                        final QuestionType questionType,
+                                        final Locale locale,
+                                        final String userName) {
+        final List<ImportResult.Failure> failures = new ArrayList<>();
+        final List<Record> chunk = new ArrayList<>(chunkSize);
+        int imported = 0;
+        int index = 0;
+        try (MappingIterator<Question> questions = jsonMapper
+                .readerFor(Question.class).readValues(inputStream)) {
+            boolean more = true;
+            while (more) {
+                try {
+                    more = questions.hasNextValue();
+                    if (more) {
+                        validate(index, questions.nextValue(), chunk,
+                                failures);
+                        index++;
+                    }
+                } catch (final JacksonException e) {
+                    // The stream can not be resumed after malformed input.
+                    failures.add(new ImportResult.Failure(index,
+                            e.getOriginalMessage()));
+                    more = false;
+                }
+
+                if (chunk.size() == chunkSize || !more && !chunk.isEmpty()) {
+                    try {
+                        imported += write(chunk, categories, questionType,
+                                locale, userName);
+                    } catch (final SQLException e) {
+                        throw new ImportStoppedException(
+                                "Import stopped at record "
+                                        + chunk.getFirst().index(),
+                                new ImportResult(imported,
+                                        List.copyOf(failures)), e);
+                    }
+                    chunk.clear();
+                }
+            }
+        }
+        return new ImportResult(imported, failures);
+    }
+
+    /**
+     * Adds a valid question to the chunk, or reports why it is invalid.
+     *
+     * @param index    position of the question
+     * @param question the question
+     * @param chunk    questions to be written
+     * @param failures records that were not imported
+     */
+    private void validate(final int index,
+                          final Question question,
+                          final List<Record> chunk,
+                          final List<ImportResult.Failure> failures) {
+        final Set<ConstraintViolation<Question>> violations =
+                validator.validate(question);
+        if (violations.isEmpty()) {
+            chunk.add(new Record(index, question));
+        } else {
+            failures.add(new ImportResult.Failure(index,
+                    violations.stream()
+                            .map(violation -> violation.getPropertyPath()
+                                    + " " + violation.getMessage())
+                            .collect(Collectors.joining(", "))));
+        }
+    }
+
+    /**
+     * Writes a chunk in a transaction of its own, on a connection
+     * borrowed only for it.
+     *
+     * @param chunk        questions to be written
+     * @param categories   the categories
+     * @param questionType the question type
+     * @param locale       the locale
+     * @param userName     the user
+     * @return number of questions imported
+     * @throws SQLException if the chunk could not be written
+     */
+    private int write(final List<Record> chunk,
+                      final List<String> categories,
+                      final QuestionType questionType,
+                      final Locale locale,
+                      final String userName)
+            throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                ConnectionBoundDataSource.bind(connection, () -> {
+                    for (final Record record : chunk) {
+                        questionService.create(categories, null,
+                                questionType, locale, userName,
+                                record.question());
+                    }
+                    return null;
+                });
+                connection.commit();
+            } catch (final SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        }
+        return chunk.size();
+    }
+
+    /**
+     * A valid question waiting to be written.
+     *
+     * @param index    position of the question
+     * @param question the question
+     */
+    private record Record(int index, Question question) {
+    }
+}
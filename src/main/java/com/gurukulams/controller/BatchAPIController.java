@@ -0,0 +1,70 @@
+package com.gurukulams.controller;
+
+import com.gurukulams.component.BatchService;
+import com.gurukulams.payload.BatchRequest;
+import com.gurukulams.payload.BatchResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.security.Principal;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/_batch")
+@Tag(name = "Batch",
+        description = "Resource to run many requests at once")
+class BatchAPIController {
+
+    /**
+     * declare a batch service.
+     */
+    private final BatchService batchService;
+
+    BatchAPIController(final BatchService aBatchService) {
+        this.batchService = aBatchService;
+    }
+
+    /**
+     * Runs a batch of requests.
+     *
+     * @param principal the principal
+     * @param requests  the requests
+     * @param request   the request
+     * @param response  the response
+     * @return responses, in the order of the requests
+     */
+    @Operation(summary = "Runs a batch of GET requests under /api",
+            description = "Requests run concurrently, as the caller. "
+                    + "Each response carries its own status.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {@ApiResponse(responseCode = "200",
+            description = "batch ran"),
+            @ApiResponse(responseCode = "400",
+                    description = "batch is empty or too large"),
+            @ApiResponse(responseCode = "401",
+                    description = "invalid credentials")})
+    @PostMapping(produces = "application/json",
+            consumes = "application/json")
+    public final ResponseEntity<List<BatchResponse>> execute(
+                    final Principal principal,
+                    @RequestBody final List<BatchRequest> requests,
+                    final HttpServletRequest request,
+                    final HttpServletResponse response) {
+        if (requests.isEmpty()
+                || requests.size() > batchService.getMaxRequests()) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(batchService.execute(principal, requests,
+                request, response));
+    }
+}
@@ -1,7 +1,9 @@
 package com.gurukulams.controller;
 
+import com.gurukulams.component.MultiGetService;
 import com.gurukulams.event.model.Event;
 import com.gurukulams.event.service.EventService;
+import com.gurukulams.payload.MultiGetResult;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -43,8 +45,15 @@ class EventAPIController {
      */
     private final EventService eventService;
 
-    EventAPIController(final EventService aEventService) {
+    /**
+     * declare a multi get service.
+     */
+    private final MultiGetService multiGetService;
+
+    EventAPIController(final EventService aEventService,
+                       final MultiGetService aMultiGetService) {
         this.eventService = aEventService;
+        this.multiGetService = aMultiGetService;
     }
 
     /**
@@ -114,6 +123,40 @@ class EventAPIController {
                 id, locale));
     }
 
+    /**
+     * Read many events.
+     *
+     * @param ids
+     * @param locale    the locale
+     * @param principal
+     * @return events, in the order of the ids
+     */
+    @Operation(summary = "Get the Events with given ids",
+            description = "Results follow the order of the ids; "
+                    + "ids not found are marked so",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {@ApiResponse(responseCode = "200",
+            description = "getting events successfully"),
+            @ApiResponse(responseCode = "400",
+                    description = "ids are empty or too many"),
+            @ApiResponse(responseCode = "401",
+                    description = "invalid credentials")})
+    @PostMapping(value = "/_mget", produces = "application/json",
+            consumes = "application/json")
+    public final ResponseEntity<List<MultiGetResult<Event>>> readAll(
+                    @RequestBody final List<UUID> ids,
+                    @RequestHeader(name = "Accept-Language",
+                            required = false) final Locale locale,
+                    final Principal principal)
+            throws SQLException {
+        if (ids.isEmpty() || ids.size() > multiGetService.getMaxIds()
+                || ids.contains(null)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(multiGetService.readEvents(principal.getName(),
+                ids, locale));
+    }
+
     /**
      * Update a Event.
      *
@@ -1,7 +1,9 @@
 package com.gurukulams.controller;
 
+import com.gurukulams.component.MultiGetService;
 import com.gurukulams.core.model.Org;
 import com.gurukulams.core.service.OrgService;
+import com.gurukulams.payload.MultiGetResult;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -38,8 +40,15 @@ class OrgAPIController {
      */
     private final OrgService orgService;
 
-    OrgAPIController(final OrgService aOrgService) {
+    /**
+     * declare a multi get service.
+     */
+    private final MultiGetService multiGetService;
+
+    OrgAPIController(final OrgService aOrgService,
+                     final MultiGetService aMultiGetService) {
         this.orgService = aOrgService;
+        this.multiGetService = aMultiGetService;
     }
 
     /**
@@ -101,6 +110,40 @@ class OrgAPIController {
                 id, locale));
     }
 
+    /**
+     * Read many orgs.
+     *
+     * @param ids
+     * @param locale    the locale
+     * @param principal
+     * @return orgs, in the order of the ids
+     */
+    @Operation(summary = "Get the Orgs with given ids",
+            description = "Results follow the order of the ids; "
+                    + "ids not found are marked so",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {@ApiResponse(responseCode = "200",
+            description = "getting orgs successfully"),
+            @ApiResponse(responseCode = "400",
+                    description = "ids are empty or too many"),
+            @ApiResponse(responseCode = "401",
+                    description = "invalid credentials")})
+    @PostMapping(value = "/_mget", produces = "application/json",
+            consumes = "application/json")
+    public final ResponseEntity<List<MultiGetResult<Org>>> readAll(
+                    @RequestBody final List<String> ids,
+                    @RequestHeader(name = "Accept-Language",
+                            required = false) final Locale locale,
+                    final Principal principal)
+            throws SQLException {
+        if (ids.isEmpty() || ids.size() > multiGetService.getMaxIds()
+                || ids.contains(null)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(multiGetService.readOrgs(principal.getName(),
+                ids, locale));
+    }
+
     /**
      * Update a Org.
      *
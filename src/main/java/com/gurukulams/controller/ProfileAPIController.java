@@ -1,9 +1,13 @@
 package com.gurukulams.controller;
 
+import com.gurukulams.component.DashboardService;
+import com.gurukulams.component.MultiGetService;
 import com.gurukulams.core.model.Org;
 import com.gurukulams.core.payload.Profile;
 import com.gurukulams.core.service.OrgService;
 import com.gurukulams.core.service.ProfileService;
+import com.gurukulams.payload.Dashboard;
+import com.gurukulams.payload.MultiGetResult;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -13,6 +17,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
@@ -42,14 +47,30 @@ class ProfileAPIController {
      */
     private final OrgService orgService;
 
+    /**
+     * declare a dashboard Service.
+     */
+    private final DashboardService dashboardService;
+
+    /**
+     * declare a multi get Service.
+     */
+    private final MultiGetService multiGetService;
+
     /**
      * @param theProfileService a learner service
      * @param theOrgService a Org service
+     * @param theDashboardService a Dashboard service
+     * @param theMultiGetService a Multi Get service
      */
     ProfileAPIController(final ProfileService theProfileService,
-                         final OrgService theOrgService) {
+                         final OrgService theOrgService,
+                         final DashboardService theDashboardService,
+                         final MultiGetService theMultiGetService) {
         this.profileService = theProfileService;
         this.orgService = theOrgService;
+        this.dashboardService = theDashboardService;
+        this.multiGetService = theMultiGetService;
     }
 
 
@@ -68,6 +89,36 @@ class ProfileAPIController {
         return ResponseEntity.of(profileService.read(
                 id));
     }
+    /**
+     * Read many profiles.
+     *
+     * @param ids
+     * @param principal
+     * @return profiles, in the order of the ids
+     */
+    @Operation(summary = "Get the Profiles with given ids",
+            description = "Results follow the order of the ids; "
+                    + "ids not found are marked so",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {@ApiResponse(responseCode = "200",
+            description = "getting profiles successfully"),
+            @ApiResponse(responseCode = "400",
+                    description = "ids are empty or too many"),
+            @ApiResponse(responseCode = "401",
+                    description = "invalid credentials")})
+    @PostMapping(value = "/_mget", produces = "application/json",
+            consumes = "application/json")
+    public final ResponseEntity<List<MultiGetResult<Profile>>> readAll(
+                    @RequestBody final List<String> ids,
+                    final Principal principal)
+            throws SQLException {
+        if (ids.isEmpty() || ids.size() > multiGetService.getMaxIds()
+                || ids.contains(null)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(multiGetService.readProfiles(ids));
+    }
+
     /**
      * List the Org.
      *
@@ -134,6 +185,34 @@ class ProfileAPIController {
         return buddies.isEmpty() ? ResponseEntity.noContent().build()
                 : ResponseEntity.ok(buddies);
     }
+    /**
+     * Get the dashboard of a Profile, its parts read concurrently.
+     *
+     * @param principal
+     * @param id
+     * @param locale
+     * @return dashboard
+     */
+    @Operation(summary = "Get the dashboard of the Profile with given id",
+            description = "Parts that could not be read in time are "
+                    + "listed as unavailable",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {@ApiResponse(responseCode = "200",
+            description = "getting dashboard successfully"),
+            @ApiResponse(responseCode = "401",
+                    description = "invalid credentials"),
+            @ApiResponse(responseCode = "404",
+                    description = "learner not found")})
+    @GetMapping(value = "/{id}/_dashboard", produces = "application/json")
+    public final ResponseEntity<Dashboard> getDashboard(
+                                final Principal principal,
+                                final @PathVariable String id,
+                                @RequestHeader(name = "Accept-Language",
+                                    required = false) final Locale locale) {
+        return ResponseEntity.of(dashboardService.read(principal.getName(),
+                id, locale));
+    }
+
     /**
      * Register a Event.
      *
@@ -1,17 +1,28 @@
 package com.gurukulams.controller;
 
+import com.gurukulams.component.BatchAnswerService;
+import com.gurukulams.component.QuestionCacheService;
+import com.gurukulams.component.QuestionImportService;
+import com.gurukulams.payload.AnswerRequest;
+import com.gurukulams.payload.AnswerResult;
+import com.gurukulams.payload.ImportResult;
 import com.gurukulams.questionbank.payload.Question;
 import com.gurukulams.questionbank.payload.QuestionType;
 import com.gurukulams.questionbank.service.AnswerService;
 import com.gurukulams.questionbank.service.QuestionService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -24,6 +35,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
 import java.security.Principal;
 import java.sql.SQLException;
 import java.util.List;
@@ -39,6 +51,16 @@ import java.util.concurrent.TimeUnit;
 @RequestMapping("/api/questions")
 @Tag(name = "Questions", description = "Resource to manage Questions")
 class QuestionAPIController {
+    /**
+     * gzip content coding.
+     */
+    private static final String GZIP = "gzip";
+
+    /**
+     * Maximum answers in a batch.
+     */
+    private static final int MAX_ANSWERS = 100;
+
     /**
      * declare a QuestionService.
      */
@@ -49,16 +71,40 @@ class QuestionAPIController {
      */
     private final AnswerService answerService;
 
+    /**
+     * Cache of question listings.
+     */
+    private final QuestionCacheService questionCacheService;
+
+    /**
+     * Bulk import of questions.
+     */
+    private final QuestionImportService questionImportService;
+
+    /**
+     * Batch answers.
+     */
+    private final BatchAnswerService batchAnswerService;
+
     /**
      * Instantiates a new Book api controller.
      *
      * @param aQuestionService   the book service
      * @param aAnswerService a Answer Service
+     * @param aQuestionCacheService the question cache service
+     * @param aQuestionImportService the question import service
+     * @param aBatchAnswerService the batch answer service
      */
     QuestionAPIController(final QuestionService aQuestionService,
-                          final AnswerService aAnswerService) {
+                          final AnswerService aAnswerService,
+                          final QuestionCacheService aQuestionCacheService,
+                          final QuestionImportService aQuestionImportService,
+                          final BatchAnswerService aBatchAnswerService) {
         this.questionService = aQuestionService;
         this.answerService = aAnswerService;
+        this.questionCacheService = aQuestionCacheService;
+        this.questionImportService = aQuestionImportService;
+        this.batchAnswerService = aBatchAnswerService;
     }
     /**
      * Create response entity.
@@ -97,12 +143,61 @@ class QuestionAPIController {
             final HttpServletRequest request)
             throws SQLException {
 
+        final List<String> categories =
+                getCategories(request.getRequestURI(), questionType);
+        final Optional<Question> createdQuestion = questionService.create(
+                categories,
+                null,
+                questionType, locale,
+                principal.getName(), question);
+        questionCacheService.evict(categories);
         return ResponseEntity.status(HttpStatus.CREATED).body(
-                questionService.create(
-                        getCategories(request.getRequestURI(), questionType),
-                        null,
-                        questionType, locale,
-                        principal.getName(), question));
+                createdQuestion);
+    }
+
+    /**
+     * Imports questions streamed as NDJSON or a JSON array.
+     *
+     * @param questionType the question type
+     * @param request      the request
+     * @param locale       the locale
+     * @param principal    the principal
+     * @return the response entity
+     */
+    @Operation(summary = "Imports questions in bulk",
+            description = "Accepts NDJSON or a JSON array of questions. "
+                    + "Invalid records are reported, not imported.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {@ApiResponse(responseCode = "200",
+            description = "questions imported"),
+            @ApiResponse(responseCode = "401",
+                    description = "invalid credentials"),
+            @ApiResponse(responseCode = "500",
+                    description = "import stopped at a record that could "
+                            + "not be written, after the chunks before "
+                            + "it")})
+    @PostMapping(value = "/_import/{questionType}/**",
+            consumes = {MediaType.APPLICATION_JSON_VALUE,
+                    MediaType.APPLICATION_NDJSON_VALUE})
+    public final ResponseEntity<ImportResult> importQuestions(
+            final @PathVariable
+            QuestionType
+                    questionType,
+            @RequestHeader(
+                    name = "Accept-Language",
+                    required = false) final Locale locale,
+            final Principal principal,
+            final HttpServletRequest request)
+            throws SQLException, IOException {
+        final List<String> categories =
+                getCategories(request.getRequestURI(), questionType);
+        final ImportResult result = questionImportService.importQuestions(
+                request.getInputStream(), categories, questionType,
+                locale, principal.getName());
+        if (result.imported() > 0) {
+            questionCacheService.evict(categories);
+        }
+        return ResponseEntity.ok(result);
     }
 
     /**
@@ -149,6 +244,8 @@ class QuestionAPIController {
                 questionService.update(
                         questionType, questionId, locale,
                         question);
+        questionCacheService.evict(getCategories(request.getRequestURI(),
+                questionType, questionId));
         return updatedQuestion == null ? ResponseEntity.notFound().build()
                 : ResponseEntity.ok(updatedQuestion);
     }
@@ -159,6 +256,7 @@ class QuestionAPIController {
      *
      * @param id           the id
      * @param questionType the question type
+     * @param request      the request
      * @return the response entity
      */
     @Operation(summary = "Deletes the question by given id",
@@ -174,9 +272,12 @@ class QuestionAPIController {
             final @PathVariable UUID id,
             final @PathVariable
             QuestionType
-                    questionType)
+                    questionType,
+            final HttpServletRequest request)
             throws SQLException {
         questionService.delete(id, QuestionType.CHOOSE_THE_BEST);
+        questionCacheService.evict(getCategories(request.getRequestURI(),
+                questionType, id));
         return null;
     }
 
@@ -187,6 +288,7 @@ class QuestionAPIController {
      * @param principal the principal
      * @param request   the request
      * @param locale    the locale
+     * @param acceptEncoding the accept encoding
      * @return the response entity
      */
     @Operation(summary = "lists all the questions for given book and give "
@@ -194,35 +296,54 @@ class QuestionAPIController {
             description = " Can be invoked by auth users only",
             security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {@ApiResponse(responseCode = "200",
-            description = "Listing all the questions"),
+            description = "Listing all the questions",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    array = @ArraySchema(schema =
+                    @Schema(implementation = Question.class)))),
             @ApiResponse(responseCode = "204",
                     description = "questions are not available"),
             @ApiResponse(responseCode = "401",
                     description = "invalid credentials")})
     @GetMapping("/**")
-    public final ResponseEntity<List<Question>>
+    public final ResponseEntity<byte[]>
     findAllQuestionsByChap(final Principal
                                    principal,
                            @RequestHeader(
                                    name = "Accept-Language",
                                    required = false) final Locale locale,
+                           @RequestHeader(
+                                   name = HttpHeaders.ACCEPT_ENCODING,
+                                   required = false)
+                           final String acceptEncoding,
                            final HttpServletRequest request)
             throws SQLException {
 
-        List<Question> questions = questionService.list(
+        QuestionCacheService.Listing listing = questionCacheService.list(
                 principal.getName(),
                 locale,
                 getCategories(request.getRequestURI())
         );
 
-        if (questions.isEmpty()) {
+        if (listing.empty()) {
             return ResponseEntity.noContent().build();
         }
 
-        return ResponseEntity.ok()
+        // A matching If-None-Match is answered with 304 by Spring MVC.
+        // Listings are per user, so shared caches must not keep them.
+        final ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
                 .cacheControl(CacheControl.maxAge(1, TimeUnit.DAYS)
-                        .cachePublic())
-                .body(questions);
+                        .cachePrivate())
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        if (listing.gzip() != null && acceptEncoding != null
+                && acceptEncoding.contains(GZIP)) {
+            return builder.eTag(listing.etag() + "-" + GZIP)
+                    .header(HttpHeaders.CONTENT_ENCODING, GZIP)
+                    .body(listing.gzip());
+        }
+        return builder.eTag(listing.etag())
+                .body(listing.json());
     }
 
     /**
@@ -255,6 +376,38 @@ class QuestionAPIController {
                 : ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).build();
     }
 
+    /**
+     * Answers a batch of questions, on one connection. An answer that
+     * fails validation is not answered, and does not fail the others.
+     *
+     * @param answers the answers
+     * @return the response entity
+     */
+    @Operation(summary = "Answer a batch of questions",
+            description = "Returns the result of every answer, "
+                    + "in the given order. An invalid answer is not "
+                    + "answered.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {@ApiResponse(responseCode = "200",
+            description = "Answered the questions"),
+            @ApiResponse(responseCode = "400",
+                    description = "no answers, too many answers "
+                            + "or an incomplete answer"),
+            @ApiResponse(responseCode = "401",
+                    description = "invalid credentials")})
+    @PostMapping("/_answers")
+    public final ResponseEntity<List<AnswerResult>> answers(
+            final @RequestBody List<AnswerRequest> answers)
+            throws SQLException {
+        if (answers.isEmpty() || answers.size() > MAX_ANSWERS
+                || answers.stream().anyMatch(answer -> answer == null
+                        || answer.questionId() == null
+                        || answer.answer() == null)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(batchAnswerService.answer(answers));
+    }
+
     private List<String> getCategories(final String requestURI,
                                        final QuestionType questionType) {
         return List.of(
@@ -263,6 +416,14 @@ class QuestionAPIController {
                         .split("/"));
     }
 
+    private List<String> getCategories(final String requestURI,
+                                       final QuestionType questionType,
+                                       final UUID id) {
+        final String[] paths = requestURI.split("/"
+                + questionType.toString() + "/" + id + "/");
+        return paths.length < 2 ? List.of() : List.of(paths[1].split("/"));
+    }
+
     private List<String> getCategories(final String requestURI) {
         return List.of(requestURI
                 .replaceFirst("/api/questions/", "")
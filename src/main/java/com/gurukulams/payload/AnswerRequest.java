@@ -0,0 +1,14 @@
+package com.gurukulams.payload;
+
+import java.util.UUID;
+
+/**
+ * An answer to a question.
+ *
+ * @param questionId the question id
+ * @param answer     the answer
+ */
+public record AnswerRequest(
+            UUID questionId,
+            String answer) {
+}
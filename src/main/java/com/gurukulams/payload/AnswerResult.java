@@ -0,0 +1,16 @@
+package com.gurukulams.payload;
+
+import java.util.UUID;
+
+/**
+ * Result of an answer to a question.
+ *
+ * @param questionId the question id
+ * @param answered   whether the answer could be checked
+ * @param correct    whether the answer is correct
+ */
+public record AnswerResult(
+            UUID questionId,
+            boolean answered,
+            boolean correct) {
+}
@@ -0,0 +1,12 @@
+package com.gurukulams.payload;
+
+/**
+ * A request of a batch.
+ *
+ * @param method the method, GET when not given
+ * @param path   the path, with its query, under /api
+ */
+public record BatchRequest(
+            String method,
+            String path) {
+}
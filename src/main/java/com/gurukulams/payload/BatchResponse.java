@@ -0,0 +1,18 @@
+package com.gurukulams.payload;
+
+import tools.jackson.databind.JsonNode;
+
+import java.util.Map;
+
+/**
+ * Response to a request of a batch.
+ *
+ * @param status  the status
+ * @param headers the headers, by name
+ * @param body    the body, a json text if the body is not json
+ */
+public record BatchResponse(
+            int status,
+            Map<String, String> headers,
+            JsonNode body) {
+}
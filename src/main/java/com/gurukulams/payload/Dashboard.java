@@ -0,0 +1,27 @@
+package com.gurukulams.payload;
+
+import com.gurukulams.core.model.Org;
+import com.gurukulams.core.payload.Profile;
+import com.gurukulams.event.model.Event;
+
+import java.util.List;
+
+/**
+ * Home screen of a learner, in one response.
+ * <p>
+ * A part that failed or did not answer in time is null, and named in
+ * unavailable.
+ *
+ * @param profile     the profile
+ * @param orgs        orgs of the profile
+ * @param buddies     buddies of the profile
+ * @param events      events of the user
+ * @param unavailable parts that are not in this response
+ */
+public record Dashboard(
+            Profile profile,
+            List<Org> orgs,
+            List<Profile> buddies,
+            List<Event> events,
+            List<String> unavailable) {
+}
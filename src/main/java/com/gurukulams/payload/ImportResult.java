@@ -0,0 +1,25 @@
+package com.gurukulams.payload;
+
+import java.util.List;
+
+/**
+ * Result of an import.
+ *
+ * @param imported number of records imported
+ * @param failures records that were not imported
+ */
+public record ImportResult(
+            int imported,
+            List<Failure> failures) {
+
+    /**
+     * A record that was not imported.
+     *
+     * @param index   position of the record, from 0
+     * @param message the reason
+     */
+    public record Failure(
+            int index,
+            String message) {
+    }
+}
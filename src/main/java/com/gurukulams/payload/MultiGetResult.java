@@ -0,0 +1,15 @@
+package com.gurukulams.payload;
+
+/**
+ * Result of an id of a multi get.
+ *
+ * @param id    the id, as asked
+ * @param found whether there is such a resource
+ * @param value the resource, null if not found
+ * @param <T>   type of the resource
+ */
+public record MultiGetResult<T>(
+            String id,
+            boolean found,
+            T value) {
+}
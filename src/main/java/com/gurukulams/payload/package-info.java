@@ -0,0 +1,4 @@
+/**
+ * Payloads of the APIs.
+ */
+package com.gurukulams.payload;
@@ -2,48 +2,62 @@ package com.gurukulams.starter.config;
 
 import com.gurukulams.event.DataManager;
 import com.gurukulams.event.service.EventService;
+import com.gurukulams.starter.store.Store;
+import com.gurukulams.starter.store.StoreDataSources;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
 import jakarta.validation.Validator;
-import org.flywaydb.core.Flyway;
-import org.h2.jdbcx.JdbcDataSource;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import javax.sql.DataSource;
+
 @Configuration
 public class EventsConfig {
 
+    /**
+     * Pool settings of the Events, bound before the pool starts.
+     * @return eventsHikariConfig
+     */
+    @Bean
+    @ConfigurationProperties("spring.gurukulams-events.hikari")
+    HikariConfig eventsHikariConfig() {
+        return new HikariConfig();
+    }
+
+    /**
+     * Provides the pooled Events DataSource. It is not
+     * a default candidate, so the primary DataSource stays unambiguous.
+     * When the stores are deferred, it is opened and migrated only
+     * after the application is ready.
+     * @param hikariConfig
+     * @param storeDataSources
+     * @return eventsDataSource
+     */
+    @Bean(defaultCandidate = false, destroyMethod = "close")
+    HikariDataSource eventsDataSource(
+            @Qualifier("eventsHikariConfig")
+            final HikariConfig hikariConfig,
+            final StoreDataSources storeDataSources) {
+        return storeDataSources.open(Store.EVENTS, hikariConfig,
+                "db/db_upgrades");
+    }
+
     /**
      * EventService.
      * @param aValidator
-     * @param url
-     * @param username
-     * @param password
-     * @param flyway
+     * @param dataSource
      * @return eventService
      */
     @Bean
     EventService eventService(
-            @Value("${spring.gurukulams-events.url}")
-            final String url,
-            @Value("${spring.datasource.username}")
-            final String username,
-            @Value("${spring.datasource.password}")
-            final String password,
-            final Flyway flyway,
+            @Qualifier("eventsDataSource")
+            final DataSource dataSource,
             final Validator aValidator) {
-        JdbcDataSource ds = new JdbcDataSource();
-        ds.setURL(url);
-        ds.setUser(username);
-        ds.setPassword(password);
-
-        Flyway.configure()
-                .configuration(flyway.getConfiguration())
-                .dataSource(ds)
-                .locations("db/db_upgrades")
-                .load()
-                .migrate();
-
-        return new EventService(ds, DataManager.getManager(), aValidator);
+        return new EventService(dataSource, DataManager.getManager(),
+                aValidator);
     }
 
 }
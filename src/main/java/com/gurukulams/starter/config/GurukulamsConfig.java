@@ -7,13 +7,23 @@ import com.gurukulams.core.service.ProfileService;
 import com.gurukulams.core.service.TagService;
 import com.gurukulams.core.service.LearnerProfileService;
 import com.gurukulams.core.service.LearnerService;
+import com.gurukulams.component.BatchService;
+import com.gurukulams.component.DashboardService;
+import com.gurukulams.component.MultiGetService;
 import com.gurukulams.component.OrgLoader;
+import com.gurukulams.event.service.EventService;
+import com.gurukulams.starter.store.Bulkheads;
+import com.gurukulams.starter.store.MigrationCoordinator;
 import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.DispatcherServlet;
 import tools.jackson.databind.json.JsonMapper;
 
 import javax.sql.DataSource;
+import java.time.Duration;
 
 @Configuration
 public class GurukulamsConfig {
@@ -120,14 +130,78 @@ public class GurukulamsConfig {
 
     /**
      * OrgLoader.
+     * @param dataSource
+     * @param dataManager
      * @param jsonMapper
-     * @param orgService
      * @return orgLoader
      */
     @Bean
-    OrgLoader orgLoader(
-                        final JsonMapper jsonMapper,
-                        final OrgService orgService) {
-        return new OrgLoader(orgService, jsonMapper);
+    OrgLoader orgLoader(final DataSource dataSource,
+                        final DataManager dataManager,
+                        final JsonMapper jsonMapper) {
+        return new OrgLoader(dataSource, dataManager, jsonMapper);
+    }
+
+    /**
+     * DashboardService.
+     * @param profileService
+     * @param orgService
+     * @param eventService
+     * @param bulkheads
+     * @param migrationCoordinator
+     * @param partTimeout
+     * @param maxConcurrent
+     * @return dashboardService
+     */
+    @Bean
+    DashboardService dashboardService(final ProfileService profileService,
+            final OrgService orgService,
+            final EventService eventService,
+            final Bulkheads bulkheads,
+            final MigrationCoordinator migrationCoordinator,
+            @Value("${app.dashboard.part-timeout:500ms}")
+            final Duration partTimeout,
+            @Value("${app.dashboard.max-concurrent:64}")
+            final int maxConcurrent) {
+        return new DashboardService(profileService, orgService,
+                eventService, bulkheads, migrationCoordinator,
+                partTimeout, maxConcurrent);
+    }
+
+    /**
+     * BatchService.
+     * @param dispatcherServlet
+     * @param jsonMapper
+     * @param maxRequests
+     * @param maxConcurrent
+     * @return batchService
+     */
+    @Bean
+    BatchService batchService(final DispatcherServlet dispatcherServlet,
+            final JsonMapper jsonMapper,
+            @Value("${app.batch.max-requests:20}") final int maxRequests,
+            @Value("${app.batch.max-concurrent:4}") final int maxConcurrent) {
+        return new BatchService(dispatcherServlet, jsonMapper,
+                maxRequests, maxConcurrent);
+    }
+
+    /**
+     * MultiGetService.
+     * @param dataSource
+     * @param eventsDataSource
+     * @param dataManager
+     * @param validator
+     * @param maxIds
+     * @return multiGetService
+     */
+    @Bean
+    MultiGetService multiGetService(final DataSource dataSource,
+            @Qualifier("eventsDataSource")
+            final DataSource eventsDataSource,
+            final DataManager dataManager,
+            final Validator validator,
+            @Value("${app.mget.max-ids:100}") final int maxIds) {
+        return new MultiGetService(dataSource, eventsDataSource,
+                dataManager, validator, maxIds);
     }
 }
@@ -1,56 +1,77 @@
 package com.gurukulams.starter.config;
 
+import com.gurukulams.component.BatchAnswerService;
+import com.gurukulams.component.QuestionCacheService;
+import com.gurukulams.component.QuestionImportService;
 import com.gurukulams.questionbank.DataManager;
 import com.gurukulams.questionbank.service.AnswerService;
 import com.gurukulams.questionbank.service.QuestionService;
+import com.gurukulams.starter.security.cache.CacheConfig;
+import com.gurukulams.starter.store.ConnectionBoundDataSource;
+import com.gurukulams.starter.store.Store;
+import com.gurukulams.starter.store.StoreDataSources;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
 import jakarta.validation.Validator;
-import org.flywaydb.core.Flyway;
-import org.h2.jdbcx.JdbcDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.sql.DataSource;
 
 /**
  * Configurations for Question Bank.
  */
 @Configuration
 public class QuestionBankConfig {
+    /**
+     * Pool settings of the Question Bank, bound before the pool starts.
+     * @return questionBankHikariConfig
+     */
+    @Bean
+    @ConfigurationProperties("spring.question-bank.hikari")
+    HikariConfig questionBankHikariConfig() {
+        return new HikariConfig();
+    }
+
+    /**
+     * Provides the pooled Question Bank DataSource. It is not
+     * a default candidate, so the primary DataSource stays unambiguous.
+     * When the stores are deferred, it is opened and migrated only
+     * after the application is ready.
+     * @param hikariConfig
+     * @param storeDataSources
+     * @return questionBankDataSource
+     */
+    @Bean(defaultCandidate = false, destroyMethod = "close")
+    HikariDataSource questionBankDataSource(
+            @Qualifier("questionBankHikariConfig")
+            final HikariConfig hikariConfig,
+            final StoreDataSources storeDataSources) {
+        return storeDataSources.open(Store.QUESTION_BANK, hikariConfig,
+                "db/upgrades");
+    }
+
     /**
      * Provides Org Service Instalnce.
      * @param aValidator
-     * @param url
-     * @param username
-     * @param password
-     * @param flyway
+     * @param dataSource
      * @return questionBankManager
      */
     @Bean
     QuestionService questionService(
             final Validator aValidator,
-            @Value("${spring.question-bank.url}")
-            final String url,
-            @Value("${spring.datasource.username}")
-            final String username,
-            @Value("${spring.datasource.password}")
-            final String password,
-            final Flyway flyway) {
-        JdbcDataSource ds = new JdbcDataSource();
-        ds.setURL(url);
-        ds.setUser(username);
-        ds.setPassword(password);
-
-        Flyway.configure()
-                .configuration(flyway.getConfiguration())
-                .dataSource(ds)
-                .locations("db/upgrades")
-                .load()
-                .migrate();
-
-
+            @Qualifier("questionBankDataSource")
+            final DataSource dataSource) {
         return new QuestionService(
                 aValidator,
                 DataManager.getManager(),
-                ds);
+                dataSource);
     }
 
 
@@ -64,4 +85,59 @@ public class QuestionBankConfig {
         return new AnswerService(questionService);
     }
 
+    /**
+     * BatchAnswerService.
+     * @param aValidator
+     * @param dataSource
+     * @return batchAnswerService
+     */
+    @Bean
+    BatchAnswerService batchAnswerService(
+            final Validator aValidator,
+            @Qualifier("questionBankDataSource")
+            final DataSource dataSource) {
+        return new BatchAnswerService(dataSource, new AnswerService(
+                new QuestionService(aValidator, DataManager.getManager(),
+                        ConnectionBoundDataSource.current())));
+    }
+
+    /**
+     * QuestionCacheService.
+     * @param questionService
+     * @param jsonMapper
+     * @param cacheManager
+     * @return questionCacheService
+     */
+    @Bean
+    QuestionCacheService questionCacheService(
+            final QuestionService questionService,
+            final JsonMapper jsonMapper,
+            final CacheManager cacheManager) {
+        return new QuestionCacheService(questionService, jsonMapper,
+                ((CaffeineCache) cacheManager
+                        .getCache(CacheConfig.QUESTIONS)).getNativeCache());
+    }
+
+    /**
+     * QuestionImportService.
+     * @param aValidator
+     * @param dataSource
+     * @param jsonMapper
+     * @param chunkSize
+     * @return questionImportService
+     */
+    @Bean
+    QuestionImportService questionImportService(
+            final Validator aValidator,
+            @Qualifier("questionBankDataSource")
+            final DataSource dataSource,
+            final JsonMapper jsonMapper,
+            @Value("${spring.question-bank.import-chunk-size:500}")
+            final int chunkSize) {
+        return new QuestionImportService(aValidator, dataSource,
+                new QuestionService(aValidator, DataManager.getManager(),
+                        ConnectionBoundDataSource.current()),
+                jsonMapper, chunkSize);
+    }
+
 }
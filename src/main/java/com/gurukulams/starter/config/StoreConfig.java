@@ -0,0 +1,277 @@
+package com.gurukulams.starter.config;
+
+import com.gurukulams.starter.store.Bulkhead;
+import com.gurukulams.starter.store.Bulkheads;
+import com.gurukulams.starter.store.MigrationCoordinator;
+import com.gurukulams.starter.store.QueryTimeoutDataSource;
+import com.gurukulams.starter.store.Store;
+import com.gurukulams.starter.store.StoreBulkheadInterceptor;
+import com.gurukulams.starter.store.StoreDataSources;
+import com.gurukulams.starter.store.StoreHealthIndicator;
+import com.gurukulams.starter.store.StoreReadinessInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.flyway.autoconfigure.FlywayMigrationStrategy;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Configurations for the stores.
+ */
+@Configuration
+public class StoreConfig {
+
+    /**
+     * Default maximum concurrent requests to a store.
+     */
+    private static final int DEFAULT_MAX_CONCURRENT = 50;
+
+    /**
+     * Default time a request may wait for its store.
+     */
+    private static final Duration DEFAULT_MAX_WAIT = Duration.ofMillis(100);
+
+    /**
+     * Default time a statement to a store may run.
+     */
+    private static final Duration DEFAULT_CALL_TIMEOUT = Duration.ofSeconds(5);
+
+    /**
+     * Store by the name of its DataSource bean.
+     */
+    private static final Map<String, Store> STORE_DATA_SOURCES = Map.of(
+            "dataSource", Store.CORE,
+            "questionBankDataSource", Store.QUESTION_BANK,
+            "eventsDataSource", Store.EVENTS);
+
+    /**
+     * Store by the path prefix of its APIs.
+     */
+    private static final Map<String, Store> STORE_PATHS = Map.of(
+            "/api/orgs", Store.CORE,
+            "/api/profiles", Store.CORE,
+            "/api/questions", Store.QUESTION_BANK,
+            "/api/events", Store.EVENTS);
+
+    /**
+     * MigrationCoordinator.
+     * @return migrationCoordinator
+     */
+    @Bean
+    MigrationCoordinator migrationCoordinator() {
+        return new MigrationCoordinator();
+    }
+
+    /**
+     * Hands the core migration to the coordinator, so it runs along
+     * with the other stores. The tables of this application (db/engine)
+     * follow on the same database, with their own history. Neither is
+     * bound by the call timeout of the store.
+     * @param migrationCoordinator
+     * @return flywayMigrationStrategy
+     */
+    @Bean
+    FlywayMigrationStrategy flywayMigrationStrategy(
+            final MigrationCoordinator migrationCoordinator) {
+        return flyway -> {
+            final DataSource dataSource;
+            try {
+                dataSource = QueryTimeoutDataSource.unbounded(
+                        flyway.getConfiguration().getDataSource());
+            } catch (final SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            migrationCoordinator.migrate(Store.CORE,
+                    Flyway.configure()
+                            .configuration(flyway.getConfiguration())
+                            .dataSource(dataSource)
+                            .load(),
+                    Flyway.configure()
+                            .configuration(flyway.getConfiguration())
+                            .dataSource(dataSource)
+                            .locations("db/engine")
+                            .table("engine_schema_history")
+                            .baselineOnMigrate(true)
+                            .baselineVersion("0")
+                            .load());
+        };
+    }
+
+    /**
+     * Opens the DataSources of the stores other than core.
+     * @param meterRegistry
+     * @param flyway
+     * @param migrationCoordinator
+     * @param deferred
+     * @return storeDataSources
+     */
+    @Bean
+    StoreDataSources storeDataSources(
+            final ObjectProvider<MeterRegistry> meterRegistry,
+            final Flyway flyway,
+            final MigrationCoordinator migrationCoordinator,
+            @Value("${app.stores.deferred:false}") final boolean deferred) {
+        return new StoreDataSources(meterRegistry.getIfAvailable(), flyway,
+                migrationCoordinator, deferred);
+    }
+
+    /**
+     * Starts migrating the deferred stores once the web server is up.
+     * @param migrationCoordinator
+     * @return deferredStoresStarter
+     */
+    @Bean
+    ApplicationListener<ApplicationReadyEvent> deferredStoresStarter(
+            final MigrationCoordinator migrationCoordinator) {
+        return event -> migrationCoordinator.startDeferred();
+    }
+
+    /**
+     * Answers requests to a store that is not ready with 503.
+     * @param migrationCoordinator
+     * @return storeReadinessConfigurer
+     */
+    @Bean
+    WebMvcConfigurer storeReadinessConfigurer(
+            final MigrationCoordinator migrationCoordinator) {
+        final StoreReadinessInterceptor interceptor =
+                new StoreReadinessInterceptor(migrationCoordinator,
+                        STORE_PATHS);
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(final InterceptorRegistry registry) {
+                registry.addInterceptor(interceptor)
+                        .addPathPatterns(storePathPatterns());
+            }
+        };
+    }
+
+    /**
+     * Gets the path patterns of the APIs of every store.
+     * @return storePathPatterns
+     */
+    private static List<String> storePathPatterns() {
+        return STORE_PATHS.keySet().stream()
+                .map(path -> path + "/**")
+                .toList();
+    }
+
+    /**
+     * Provides a bulkhead for each store, sized by
+     * app.stores.bulkheads.&lt;store&gt;.max-concurrent and max-wait.
+     * @param environment
+     * @param meterRegistry
+     * @return bulkheads
+     */
+    @Bean
+    Bulkheads bulkheads(final Environment environment,
+                        final ObjectProvider<MeterRegistry> meterRegistry) {
+        final MeterRegistry meters =
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        final Map<Store, Bulkhead> bulkheads = new EnumMap<>(Store.class);
+        for (final Store store : Store.values()) {
+            bulkheads.put(store, new Bulkhead(store,
+                    environment.getProperty(
+                            bulkheadProperty(store, "max-concurrent"),
+                            Integer.class, DEFAULT_MAX_CONCURRENT),
+                    environment.getProperty(
+                            bulkheadProperty(store, "max-wait"),
+                            Duration.class, DEFAULT_MAX_WAIT),
+                    meters));
+        }
+        return new Bulkheads(bulkheads);
+    }
+
+    /**
+     * Bounds the requests to each store with its bulkhead, so that
+     * a slow store cannot take every request thread.
+     * @param bulkheads
+     * @return storeBulkheadConfigurer
+     */
+    @Bean
+    WebMvcConfigurer storeBulkheadConfigurer(final Bulkheads bulkheads) {
+        final Map<String, Bulkhead> bulkheadPaths = new HashMap<>();
+        STORE_PATHS.forEach((path, store) ->
+                bulkheadPaths.put(path, bulkheads.get(store)));
+        final StoreBulkheadInterceptor interceptor =
+                new StoreBulkheadInterceptor(bulkheadPaths);
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(final InterceptorRegistry registry) {
+                // After the readiness check, which rejects cheaper
+                registry.addInterceptor(interceptor)
+                        .addPathPatterns(storePathPatterns())
+                        .order(1);
+            }
+        };
+    }
+
+    /**
+     * Bounds every statement to a store by
+     * app.stores.bulkheads.&lt;store&gt;.call-timeout, so that a call
+     * in the bulkhead gives its place up on a stuck query. Migrations
+     * keep the unbounded DataSource.
+     * @param environment
+     * @return storeCallTimeouts
+     */
+    @Bean
+    static BeanPostProcessor storeCallTimeouts(
+            final Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean,
+                                                         final String name) {
+                final Store store = STORE_DATA_SOURCES.get(name);
+                if (store != null && bean instanceof DataSource dataSource) {
+                    return new QueryTimeoutDataSource(dataSource,
+                            environment.getProperty(
+                                    bulkheadProperty(store, "call-timeout"),
+                                    Duration.class, DEFAULT_CALL_TIMEOUT));
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Names the bulkhead property of the store.
+     * @param store
+     * @param property
+     * @return app.stores.bulkheads.&lt;store&gt;.&lt;property&gt;
+     */
+    private static String bulkheadProperty(final Store store,
+                                           final String property) {
+        return "app.stores.bulkheads."
+                + store.name().toLowerCase(Locale.ROOT).replace('_', '-')
+                + "." + property;
+    }
+
+    /**
+     * Reports the state of the stores.
+     * @param migrationCoordinator
+     * @return storesHealthIndicator
+     */
+    @Bean
+    StoreHealthIndicator storesHealthIndicator(
+            final MigrationCoordinator migrationCoordinator) {
+        return new StoreHealthIndicator(migrationCoordinator);
+    }
+}
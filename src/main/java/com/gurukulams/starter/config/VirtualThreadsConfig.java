@@ -0,0 +1,83 @@
+package com.gurukulams.starter.config;
+
+import com.gurukulams.starter.store.ConcurrencyLimitingDataSource;
+import com.gurukulams.starter.threads.VirtualThreadPinningMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Configurations for serving requests on virtual threads, enabled by
+ * spring.threads.virtual.enabled.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfig {
+
+    /**
+     * Limits every pool to as many callers as it has connections, so
+     * the rest wait in fair order instead of stampeding the database.
+     * @return concurrencyLimitingDataSources
+     */
+    @Bean
+    static BeanPostProcessor concurrencyLimitingDataSources() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean,
+                                                         final String name) {
+                final HikariDataSource hikariDataSource = hikari(bean);
+                if (hikariDataSource != null) {
+                    return new ConcurrencyLimitingDataSource(
+                            (DataSource) bean,
+                            hikariDataSource.getMaximumPoolSize(),
+                            Duration.ofMillis(hikariDataSource
+                                    .getConnectionTimeout()));
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Gets the pool of the DataSource, which may be wrapped already.
+     * @param bean
+     * @return pool, null if not a pooled DataSource
+     */
+    private static HikariDataSource hikari(final Object bean) {
+        try {
+            if (bean instanceof DataSource dataSource
+                    && dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class);
+            }
+        } catch (final SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        return null;
+    }
+
+    /**
+     * Reports virtual threads pinned to their carrier.
+     * @param meterRegistry
+     * @param threshold
+     * @return virtualThreadPinningMonitor
+     */
+    @Bean
+    VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            final ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${app.threads.pinned-threshold:20ms}")
+            final Duration threshold) {
+        return new VirtualThreadPinningMonitor(threshold,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+}
@@ -1,7 +1,9 @@
 package com.gurukulams.starter.exception;
 
+import com.gurukulams.starter.security.exception.TooManyRequestsException;
 import jakarta.validation.ConstraintViolationException;
 import org.h2.jdbc.JdbcSQLIntegrityConstraintViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.ErrorResponse;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -56,5 +58,70 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
                 .build();
     }
 
+    /**
+     * Handles StoreUnavailableException.
+     * @param e
+     * @return errorResponse
+     */
+    @ExceptionHandler(StoreUnavailableException.class)
+    ErrorResponse handleStoreUnavailableException(
+            final StoreUnavailableException e) {
+        return ErrorResponse.builder(e,
+                        HttpStatus.SERVICE_UNAVAILABLE,
+                        e.getMessage())
+                .header(HttpHeaders.RETRY_AFTER,
+                        String.valueOf(e.getRetryAfterSeconds()))
+                .title(e.getMessage())
+                .detail(e.getMessage())
+                .type(URI.create(
+                    "https://api.gurukulams.com/errors/service_unavailable"))
+                .property("errorCategory", "Generic")
+                .property("timestamp", Instant.now())
+                .build();
+    }
+
+    /**
+     * Handles TooManyRequestsException.
+     * @param e
+     * @return errorResponse
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    ErrorResponse handleTooManyRequestsException(
+            final TooManyRequestsException e) {
+        return ErrorResponse.builder(e,
+                        HttpStatus.TOO_MANY_REQUESTS,
+                        e.getMessage())
+                .header(HttpHeaders.RETRY_AFTER,
+                        String.valueOf(e.getRetryAfterSeconds()))
+                .title(e.getMessage())
+                .detail(e.getMessage())
+                .type(URI.create(
+                    "https://api.gurukulams.com/errors/too_many_requests"))
+                .property("errorCategory", "Generic")
+                .property("timestamp", Instant.now())
+                .build();
+    }
+
+    /**
+     * Handles ImportStoppedException, reporting what was imported.
+     * @param e
+     * @return errorResponse
+     */
+    @ExceptionHandler(ImportStoppedException.class)
+    ErrorResponse handleImportStoppedException(
+            final ImportStoppedException e) {
+        return ErrorResponse.builder(e,
+                        HttpStatus.INTERNAL_SERVER_ERROR,
+                        e.getMessage())
+                .title(e.getMessage())
+                .detail(e.getCause().getMessage())
+                .type(URI.create(
+                    "https://api.gurukulams.com/errors/import_stopped"))
+                .property("errorCategory", "Generic")
+                .property("timestamp", Instant.now())
+                .property("imported", e.getResult().imported())
+                .property("failures", e.getResult().failures())
+                .build();
+    }
 
 }
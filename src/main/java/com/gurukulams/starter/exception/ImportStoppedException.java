@@ -0,0 +1,38 @@
+package com.gurukulams.starter.exception;
+
+import com.gurukulams.payload.ImportResult;
+
+/**
+ * Thrown when an import stops on a store failure, carrying what was
+ * imported till then.
+ */
+public class ImportStoppedException extends RuntimeException {
+
+    /**
+     * Result of the chunks committed before the failure.
+     */
+    private final transient ImportResult result;
+
+    /**
+     * Instantiates a new Import stopped exception.
+     *
+     * @param message the message
+     * @param aResult result of the chunks committed before the failure
+     * @param cause   the store failure
+     */
+    public ImportStoppedException(final String message,
+                                  final ImportResult aResult,
+                                  final Throwable cause) {
+        super(message, cause);
+        this.result = aResult;
+    }
+
+    /**
+     * Gets the result of the chunks committed before the failure.
+     *
+     * @return result
+     */
+    public ImportResult getResult() {
+        return result;
+    }
+}
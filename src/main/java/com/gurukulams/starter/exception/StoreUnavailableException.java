@@ -0,0 +1,34 @@
+package com.gurukulams.starter.exception;
+
+/**
+ * Thrown when a request needs a store that is not ready yet, or
+ * is saturated.
+ */
+public class StoreUnavailableException extends RuntimeException {
+
+    /**
+     * Seconds after which the client may retry.
+     */
+    private final long retryAfterSeconds;
+
+    /**
+     * Instantiates a new Store unavailable exception.
+     *
+     * @param message            the message
+     * @param aRetryAfterSeconds seconds after which the client may retry
+     */
+    public StoreUnavailableException(final String message,
+                                     final long aRetryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = aRetryAfterSeconds;
+    }
+
+    /**
+     * Gets the seconds after which the client may retry.
+     *
+     * @return retryAfterSeconds
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
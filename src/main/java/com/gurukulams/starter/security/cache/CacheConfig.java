@@ -1,9 +1,129 @@
 package com.gurukulams.starter.security.cache;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.gurukulams.starter.security.config.AppProperties;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Named caches, each sized by its own Caffeine spec under app.cache.
+ * Token caches expire every entry with its token, so their specs
+ * carry no expireAfter policy.
+ */
 @Configuration
 @EnableCaching
 public class CacheConfig {
+
+    /**
+     * Cache of issued tokens on this node.
+     */
+    public static final String AUTH = "Auth";
+
+    /**
+     * Cache of resolved principals by token.
+     */
+    public static final String PRINCIPAL = "Principal";
+
+    /**
+     * Cache of question listings.
+     */
+    public static final String QUESTIONS = "Questions";
+
+    /**
+     * Spec of caches not configured under app.cache.
+     */
+    private static final String DEFAULT_SPEC = "maximumSize=10000";
+
+    /**
+     * Provides the cache manager with the named caches.
+     * @param appProperties
+     * @return cacheManager
+     */
+    @Bean
+    CaffeineCacheManager cacheManager(final AppProperties appProperties) {
+        final CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // Only the named caches below.
+        cacheManager.setCacheNames(List.of());
+        cacheManager.setAllowNullValues(false);
+
+        final Duration maxTokenTtl = Duration.ofMillis(appProperties
+                .getAuth().getRefreshTokenExpirationMsec());
+        cacheManager.registerCustomCache(AUTH, build(appProperties, AUTH,
+                Expiry.creating((Object token, Object value) ->
+                        maxTokenTtl),
+                (Object token, Object value) ->
+                        value.toString().length()));
+        cacheManager.registerCustomCache(PRINCIPAL,
+                build(appProperties, PRINCIPAL,
+                Expiry.creating((Object token, Object principal) ->
+                        Duration.ofMillis(
+                                ((CachedPrincipal) principal).expiresAt()
+                                        - System.currentTimeMillis())),
+                Weigher.singletonWeigher()));
+        cacheManager.registerCustomCache(QUESTIONS,
+                build(appProperties, QUESTIONS, null,
+                        Weigher.singletonWeigher()));
+        return cacheManager;
+    }
+
+    /**
+     * Builds a cache from its spec, recording stats.
+     * @param appProperties
+     * @param name
+     * @param expiry per entry expiry, null to expire by the spec
+     * @param weigher used when the spec sets maximumWeight
+     * @return cache
+     */
+    private static Cache<Object, Object> build(
+            final AppProperties appProperties,
+            final String name,
+            final Expiry<Object, Object> expiry,
+            final Weigher<Object, Object> weigher) {
+        final String spec = appProperties.getCache()
+                .getOrDefault(name, DEFAULT_SPEC);
+        final Caffeine<Object, Object> caffeine = Caffeine.from(spec)
+                .recordStats();
+        if (expiry != null) {
+            caffeine.expireAfter(expiry);
+        }
+        if (spec.contains("maximumWeight")) {
+            caffeine.weigher(weigher);
+        }
+        return caffeine.build();
+    }
+
+    /**
+     * Provides the store of issued tokens.
+     * @param appProperties
+     * @param cacheManager
+     * @param dataSource
+     * @return tokenStore
+     */
+    @Bean
+    TokenStore tokenStore(final AppProperties appProperties,
+                          final CacheManager cacheManager,
+                          final DataSource dataSource) {
+        final AppProperties.Auth auth = appProperties.getAuth();
+        final TokenStore local = new CaffeineTokenStore(
+                ((CaffeineCache) cacheManager.getCache(AUTH))
+                        .getNativeCache());
+        if (auth.getTokenStore() == AppProperties.TokenStoreType.LOCAL) {
+            return local;
+        }
+
+        return new NearCacheTokenStore(local,
+                new JdbcTokenStore(dataSource),
+                Duration.ofMillis(auth.getNearCacheExpirationMsec()));
+    }
 }
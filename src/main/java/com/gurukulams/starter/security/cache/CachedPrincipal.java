@@ -0,0 +1,22 @@
+package com.gurukulams.starter.security.cache;
+
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * A resolved principal held against a token until the token expires.
+ *
+ * @param userDetails the user details loaded for the token
+ * @param expiresAt   epoch millis at which the token expires
+ */
+public record CachedPrincipal(UserDetails userDetails, long expiresAt) {
+
+    /**
+     * Checks whether the token of this principal is expired.
+     *
+     * @param now epoch millis
+     * @return true if expired
+     */
+    public boolean isExpired(final long now) {
+        return now >= expiresAt;
+    }
+}
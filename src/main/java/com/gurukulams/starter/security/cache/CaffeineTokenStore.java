@@ -0,0 +1,75 @@
+package com.gurukulams.starter.security.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+
+/**
+ * Node local token store with per entry expiry.
+ */
+public final class CaffeineTokenStore implements TokenStore {
+
+    /**
+     * Expiry of entries put without a time to live.
+     */
+    private static final Duration DEFAULT_TTL = Duration.ofHours(1);
+
+    /**
+     * Tokens.
+     */
+    private final Cache<Object, Object> cache;
+
+    /**
+     * Builds Caffeine Token Store.
+     *
+     * @param maximumSize maximum number of tokens
+     */
+    public CaffeineTokenStore(final long maximumSize) {
+        this(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.creating((Object token, Object value) ->
+                        DEFAULT_TTL))
+                .recordStats()
+                .build());
+    }
+
+    /**
+     * Builds Caffeine Token Store over a cache with variable expiry.
+     *
+     * @param aCache the cache
+     */
+    public CaffeineTokenStore(final Cache<Object, Object> aCache) {
+        this.cache = aCache;
+    }
+
+    @Override
+    public void put(final String token, final String value,
+                    final Duration ttl) {
+        cache.policy().expireVariably().orElseThrow()
+                .put(token, value, ttl);
+    }
+
+    @Override
+    public boolean putIfAbsent(final String token, final String value,
+                               final Duration ttl) {
+        return cache.policy().expireVariably().orElseThrow()
+                .putIfAbsent(token, value, ttl) == null;
+    }
+
+    @Override
+    public String get(final String token) {
+        return (String) cache.getIfPresent(token);
+    }
+
+    @Override
+    public void evict(final String token) {
+        cache.invalidate(token);
+    }
+
+    @Override
+    public boolean remove(final String token, final String expectedValue) {
+        return cache.asMap().remove(token, expectedValue);
+    }
+}
@@ -0,0 +1,227 @@
+package com.gurukulams.starter.security.cache;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token store shared by nodes through the auth_tokens table.
+ * <p>
+ * Expired rows are ignored on read and purged by writes at most
+ * once a minute.
+ */
+public final class JdbcTokenStore implements TokenStore {
+
+    /**
+     * Interval between purges of expired tokens.
+     */
+    private static final long PURGE_INTERVAL_MSEC =
+            TimeUnit.MINUTES.toMillis(1);
+
+    /**
+     * Update Query.
+     */
+    private static final String UPDATE = "UPDATE auth_tokens "
+            + "SET token_value = ?, expires_at = ? WHERE token = ?";
+
+    /**
+     * Insert Query.
+     */
+    private static final String INSERT = "INSERT INTO auth_tokens"
+            + "(token, token_value, expires_at) VALUES (?, ?, ?)";
+
+    /**
+     * Select Query.
+     */
+    private static final String SELECT = "SELECT token_value "
+            + "FROM auth_tokens WHERE token = ? AND expires_at > ?";
+
+    /**
+     * Delete Query.
+     */
+    private static final String DELETE =
+            "DELETE FROM auth_tokens WHERE token = ?";
+
+    /**
+     * Compare and Delete Query.
+     */
+    private static final String DELETE_IF_MATCHES = "DELETE FROM auth_tokens"
+            + " WHERE token = ? AND token_value = ? AND expires_at > ?";
+
+    /**
+     * Delete Expired Query.
+     */
+    private static final String DELETE_IF_EXPIRED = "DELETE FROM auth_tokens"
+            + " WHERE token = ? AND expires_at <= ?";
+
+    /**
+     * SQL state class of integrity constraint violations.
+     */
+    private static final String INTEGRITY_CONSTRAINT_VIOLATION = "23";
+
+    /**
+     * Purge Query.
+     */
+    private static final String PURGE =
+            "DELETE FROM auth_tokens WHERE expires_at <= ?";
+
+    /**
+     * DataSource.
+     */
+    private final DataSource dataSource;
+
+    /**
+     * Time of the last purge.
+     */
+    private final AtomicLong lastPurge = new AtomicLong();
+
+    /**
+     * Builds Jdbc Token Store.
+     *
+     * @param aDataSource the data source
+     */
+    public JdbcTokenStore(final DataSource aDataSource) {
+        this.dataSource = aDataSource;
+    }
+
+    @Override
+    public void put(final String token, final String value,
+                    final Duration ttl) {
+        final long now = System.currentTimeMillis();
+        final Timestamp expiresAt = new Timestamp(now + ttl.toMillis());
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement ps = connection.prepareStatement(UPDATE)) {
+                bind(ps, value, expiresAt, token);
+                if (ps.executeUpdate() == 0) {
+                    insert(connection, token, value, expiresAt);
+                }
+            }
+            purgeExpired(connection, now);
+        } catch (final SQLException e) {
+            throw new IllegalStateException("Unable to store token", e);
+        }
+    }
+
+    @Override
+    public boolean putIfAbsent(final String token, final String value,
+                               final Duration ttl) {
+        final long now = System.currentTimeMillis();
+        try (Connection connection = dataSource.getConnection()) {
+            // An expired row would otherwise hold the key
+            try (PreparedStatement ps =
+                         connection.prepareStatement(DELETE_IF_EXPIRED)) {
+                bind(ps, token, new Timestamp(now));
+                ps.executeUpdate();
+            }
+            try {
+                insert(connection, token, value,
+                        new Timestamp(now + ttl.toMillis()));
+            } catch (final SQLException e) {
+                if (e.getSQLState() != null && e.getSQLState()
+                        .startsWith(INTEGRITY_CONSTRAINT_VIOLATION)) {
+                    return false;
+                }
+                throw e;
+            }
+            purgeExpired(connection, now);
+            return true;
+        } catch (final SQLException e) {
+            throw new IllegalStateException("Unable to store token", e);
+        }
+    }
+
+    @Override
+    public String get(final String token) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement(SELECT)) {
+            bind(ps, token, new Timestamp(System.currentTimeMillis()));
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? rs.getString(1) : null;
+            }
+        } catch (final SQLException e) {
+            throw new IllegalStateException("Unable to read token", e);
+        }
+    }
+
+    @Override
+    public void evict(final String token) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement(DELETE)) {
+            bind(ps, token);
+            ps.executeUpdate();
+        } catch (final SQLException e) {
+            throw new IllegalStateException("Unable to evict token", e);
+        }
+    }
+
+    @Override
+    public boolean remove(final String token, final String expectedValue) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps =
+                     connection.prepareStatement(DELETE_IF_MATCHES)) {
+            bind(ps, token, expectedValue,
+                    new Timestamp(System.currentTimeMillis()));
+            return ps.executeUpdate() == 1;
+        } catch (final SQLException e) {
+            throw new IllegalStateException("Unable to remove token", e);
+        }
+    }
+
+    /**
+     * Inserts the token.
+     *
+     * @param connection the connection
+     * @param token      the token
+     * @param value      the value
+     * @param expiresAt  the expiry
+     * @throws SQLException
+     */
+    private void insert(final Connection connection,
+                        final String token,
+                        final String value,
+                        final Timestamp expiresAt) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(INSERT)) {
+            bind(ps, token, value, expiresAt);
+            ps.executeUpdate();
+        }
+    }
+
+    /**
+     * Purges expired tokens, at most once per interval.
+     *
+     * @param connection the connection
+     * @param now        current time
+     * @throws SQLException
+     */
+    private void purgeExpired(final Connection connection,
+                              final long now) throws SQLException {
+        final long last = lastPurge.get();
+        if (now - last >= PURGE_INTERVAL_MSEC
+                && lastPurge.compareAndSet(last, now)) {
+            try (PreparedStatement ps = connection.prepareStatement(PURGE)) {
+                bind(ps, new Timestamp(now));
+                ps.executeUpdate();
+            }
+        }
+    }
+
+    /**
+     * Binds parameters in order.
+     *
+     * @param ps     the statement
+     * @param values the values
+     * @throws SQLException
+     */
+    private static void bind(final PreparedStatement ps,
+                             final Object... values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            ps.setObject(i + 1, values[i]);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.gurukulams.starter.security.cache;
+
+import java.time.Duration;
+
+/**
+ * Token store that keeps recently used tokens of a shared remote
+ * store locally for a short while.
+ * <p>
+ * Writes go through to the remote store. Misses are kept locally as
+ * well, so that looking up an absent token, such as a token id that is
+ * not denied, does not reach the remote store on every request. A token
+ * evicted, or stored, on another node stays visible, or hidden, here
+ * for at most the near expiry.
+ */
+public final class NearCacheTokenStore implements TokenStore {
+
+    /**
+     * Local value of a token absent from the remote store.
+     */
+    private static final String ABSENT = "";
+
+    /**
+     * Local Store.
+     */
+    private final TokenStore local;
+
+    /**
+     * Remote Store.
+     */
+    private final TokenStore remote;
+
+    /**
+     * Expiry of the local copy.
+     */
+    private final Duration nearTtl;
+
+    /**
+     * Builds Near Cache Token Store.
+     *
+     * @param aLocal   local store
+     * @param aRemote  remote store
+     * @param aNearTtl expiry of the local copy
+     */
+    public NearCacheTokenStore(final TokenStore aLocal,
+                               final TokenStore aRemote,
+                               final Duration aNearTtl) {
+        this.local = aLocal;
+        this.remote = aRemote;
+        this.nearTtl = aNearTtl;
+    }
+
+    @Override
+    public void put(final String token, final String value,
+                    final Duration ttl) {
+        remote.put(token, value, ttl);
+        local.put(token, value, ttl.compareTo(nearTtl) < 0 ? ttl : nearTtl);
+    }
+
+    /**
+     * Stores the token in the remote store, which decides among
+     * concurrent callers across nodes.
+     *
+     * @param token the token
+     * @param value the value
+     * @param ttl   time to live
+     * @return true if this call stored the value
+     */
+    @Override
+    public boolean putIfAbsent(final String token, final String value,
+                               final Duration ttl) {
+        final boolean stored = remote.putIfAbsent(token, value, ttl);
+        if (stored) {
+            local.put(token, value,
+                    ttl.compareTo(nearTtl) < 0 ? ttl : nearTtl);
+        } else {
+            local.evict(token);
+        }
+        return stored;
+    }
+
+    @Override
+    public String get(final String token) {
+        String value = local.get(token);
+        if (value == null) {
+            value = remote.get(token);
+            local.put(token, value == null ? ABSENT : value, nearTtl);
+        }
+        return ABSENT.equals(value) ? null : value;
+    }
+
+    @Override
+    public void evict(final String token) {
+        remote.evict(token);
+        local.evict(token);
+    }
+
+    /**
+     * Removes the token from the remote store, which decides among
+     * concurrent callers across nodes.
+     *
+     * @param token         the token
+     * @param expectedValue the expected value
+     * @return true if this call removed the token
+     */
+    @Override
+    public boolean remove(final String token, final String expectedValue) {
+        final boolean removed = remote.remove(token, expectedValue);
+        local.evict(token);
+        return removed;
+    }
+}
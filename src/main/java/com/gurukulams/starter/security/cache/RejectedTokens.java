@@ -0,0 +1,119 @@
+package com.gurukulams.starter.security.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Recently rejected bearer tokens, and the rejections by source.
+ * <p>
+ * A rejected token is remembered briefly, so replaying it costs a
+ * lookup instead of a token store lookup and JWT parse. A source
+ * rejected too often within a window is limited till the window ends;
+ * only its failing tokens are turned away, so valid tokens from the
+ * same address, as behind a NAT, still pass.
+ */
+public final class RejectedTokens {
+
+    /**
+     * Maximum number of rejected tokens remembered.
+     */
+    private static final long MAXIMUM_TOKENS = 100_000;
+
+    /**
+     * Maximum number of sources tracked.
+     */
+    private static final long MAXIMUM_SOURCES = 10_000;
+
+    /**
+     * Rejected tokens.
+     */
+    private final Cache<String, Boolean> tokens;
+
+    /**
+     * Rejections by source, counted from its first rejection
+     * in the window.
+     */
+    private final Cache<String, AtomicInteger> rejectionsBySource;
+
+    /**
+     * Rejections of a source within the window, beyond which it is
+     * limited.
+     */
+    private final int maximumRejections;
+
+    /**
+     * Window within which rejections of a source are counted.
+     */
+    private final Duration window;
+
+    /**
+     * Builds Rejected Tokens.
+     *
+     * @param tokenExpiration    how long a rejected token is remembered
+     * @param aMaximumRejections rejections of a source within the window,
+     *                           beyond which it is limited
+     * @param aWindow            window within which rejections of a
+     *                           source are counted
+     */
+    public RejectedTokens(final Duration tokenExpiration,
+                          final int aMaximumRejections,
+                          final Duration aWindow) {
+        this.maximumRejections = aMaximumRejections;
+        this.window = aWindow;
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_TOKENS)
+                .expireAfterWrite(tokenExpiration)
+                .build();
+        this.rejectionsBySource = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SOURCES)
+                .expireAfterWrite(aWindow)
+                .build();
+    }
+
+    /**
+     * Checks whether the token was rejected recently.
+     *
+     * @param token the token
+     * @return true if rejected
+     */
+    public boolean isRejected(final String token) {
+        return tokens.getIfPresent(token) != null;
+    }
+
+    /**
+     * Checks whether the source was rejected too often.
+     *
+     * @param source the source
+     * @return true if limited
+     */
+    public boolean isLimited(final String source) {
+        final AtomicInteger rejections =
+                rejectionsBySource.getIfPresent(source);
+        return rejections != null && rejections.get() > maximumRejections;
+    }
+
+    /**
+     * Records a rejection of the token from the source.
+     *
+     * @param token  the token
+     * @param source the source
+     * @return true if this rejection got the source limited
+     */
+    public boolean reject(final String token, final String source) {
+        tokens.put(token, Boolean.TRUE);
+        return rejectionsBySource.get(source, s -> new AtomicInteger())
+                .incrementAndGet() == maximumRejections + 1;
+    }
+
+    /**
+     * Seconds after which a limited source may retry.
+     *
+     * @return seconds
+     */
+    public long getRetryAfterSeconds() {
+        return window.toSeconds();
+    }
+}
@@ -0,0 +1,66 @@
+package com.gurukulams.starter.security.cache;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Duration;
+
+/**
+ * Denylist of revoked token ids (jti), kept in the token store.
+ * <p>
+ * With a shared token store, a token revoked on one node is revoked on
+ * all of them. Each id is kept only until its token expires, after
+ * which the token is rejected on its own.
+ */
+public final class TokenDenylist {
+
+    /**
+     * Prefix of denied ids in the token store.
+     */
+    private static final String PREFIX = "jti:";
+
+    /**
+     * Value of denied ids in the token store.
+     */
+    private static final String DENIED = "denied";
+
+    /**
+     * Store of the denied ids.
+     */
+    private final TokenStore tokenStore;
+
+    /**
+     * Builds Token Denylist.
+     *
+     * @param aTokenStore store of the denied ids
+     */
+    public TokenDenylist(final TokenStore aTokenStore) {
+        this.tokenStore = aTokenStore;
+    }
+
+    /**
+     * Denies the token till it expires.
+     *
+     * @param claims claims of the token
+     * @return true if the token was not denied already
+     */
+    public boolean deny(final Claims claims) {
+        final Duration ttl = Duration.ofMillis(
+                claims.getExpiration().getTime()
+                        - System.currentTimeMillis());
+        // An expired token is rejected on its own
+        return !ttl.isPositive()
+                || tokenStore.putIfAbsent(PREFIX + claims.getId(),
+                        DENIED, ttl);
+    }
+
+    /**
+     * Checks whether the token is denied.
+     *
+     * @param claims claims of the token
+     * @return true if denied
+     */
+    public boolean isDenied(final Claims claims) {
+        return claims.getId() == null
+                || tokenStore.get(PREFIX + claims.getId()) != null;
+    }
+}
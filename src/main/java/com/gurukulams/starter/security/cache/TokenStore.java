@@ -0,0 +1,55 @@
+package com.gurukulams.starter.security.cache;
+
+import java.time.Duration;
+
+/**
+ * Store of issued tokens, each held till its own expiry.
+ */
+public interface TokenStore {
+
+    /**
+     * Stores the value against the token.
+     *
+     * @param token the token
+     * @param value the value
+     * @param ttl   time to live
+     */
+    void put(String token, String value, Duration ttl);
+
+    /**
+     * Stores the value against the token, atomically, only if the token
+     * holds no unexpired value, so that of concurrent callers at most
+     * one succeeds.
+     *
+     * @param token the token
+     * @param value the value
+     * @param ttl   time to live
+     * @return true if this call stored the value
+     */
+    boolean putIfAbsent(String token, String value, Duration ttl);
+
+    /**
+     * Gets the value of the token.
+     *
+     * @param token the token
+     * @return value, null if absent or expired
+     */
+    String get(String token);
+
+    /**
+     * Evicts the token.
+     *
+     * @param token the token
+     */
+    void evict(String token);
+
+    /**
+     * Removes the token only if it still holds the expected value,
+     * atomically, so that of concurrent callers at most one succeeds.
+     *
+     * @param token         the token
+     * @param expectedValue the expected value
+     * @return true if this call removed the token
+     */
+    boolean remove(String token, String expectedValue);
+}
@@ -26,6 +26,19 @@ public class AppProperties {
      */
     private Map<String, List<String>> feature
             = new HashMap<String, List<String>>();
+    /**
+     * Caffeine spec by cache name.
+     */
+    private Map<String, String> cache = new HashMap<>();
+
+    /**
+     * Gets Caffeine spec by cache name.
+     * @return cache
+     */
+    public Map<String, String> getCache() {
+        return this.cache;
+    }
+
     /**
      * Gets Feature of User.
      * @return feature
@@ -56,6 +69,40 @@ public class AppProperties {
      * The type Auth.
      */
     public static class Auth {
+        /**
+         * Default refresh token expiration.
+         */
+        private static final long DEFAULT_REFRESH_TOKEN_EXPIRATION_MSEC
+                = 3_600_000;
+        /**
+         * Default expiry of tokens cached near a remote token store.
+         */
+        private static final long DEFAULT_NEAR_CACHE_EXPIRATION_MSEC
+                = 5_000;
+        /**
+         * Default password hashes that may wait for a worker.
+         */
+        private static final int DEFAULT_PASSWORD_HASH_QUEUE_CAPACITY
+                = 64;
+        /**
+         * Default time within which a password hash is to be done.
+         */
+        private static final long DEFAULT_PASSWORD_HASH_TIMEOUT_MSEC
+                = 3_000;
+        /**
+         * Default time for which a rejected token is remembered.
+         */
+        private static final long DEFAULT_REJECTED_TOKEN_EXPIRATION_MSEC
+                = 30_000;
+        /**
+         * Default rejections of a source within the window, beyond which
+         * its failing tokens are answered 429.
+         */
+        private static final int DEFAULT_REJECTION_LIMIT = 20;
+        /**
+         * Default window within which rejections of a source are counted.
+         */
+        private static final long DEFAULT_REJECTION_WINDOW_MSEC = 60_000;
         /**
          * declaring variable tokenSecret.
          */
@@ -64,6 +111,48 @@ public class AppProperties {
          * declaring variable tokenExpirationMsec.
          */
         private long tokenExpirationMsec;
+        /**
+         * declaring variable refreshTokenExpirationMsec.
+         */
+        private long refreshTokenExpirationMsec
+                = DEFAULT_REFRESH_TOKEN_EXPIRATION_MSEC;
+        /**
+         * Issue self contained signed tokens instead of opaque tokens.
+         */
+        private boolean stateless;
+        /**
+         * Where issued tokens are stored.
+         */
+        private TokenStoreType tokenStore = TokenStoreType.LOCAL;
+        /**
+         * Expiry of tokens cached near a remote token store.
+         */
+        private long nearCacheExpirationMsec
+                = DEFAULT_NEAR_CACHE_EXPIRATION_MSEC;
+        /**
+         * Password hashes that may wait for a worker.
+         */
+        private int passwordHashQueueCapacity
+                = DEFAULT_PASSWORD_HASH_QUEUE_CAPACITY;
+        /**
+         * Time within which a password hash is to be done.
+         */
+        private long passwordHashTimeoutMsec
+                = DEFAULT_PASSWORD_HASH_TIMEOUT_MSEC;
+        /**
+         * Time for which a rejected token is remembered.
+         */
+        private long rejectedTokenExpirationMsec
+                = DEFAULT_REJECTED_TOKEN_EXPIRATION_MSEC;
+        /**
+         * Rejections of a source within the window, beyond which its
+         * failing tokens are answered 429.
+         */
+        private int rejectionLimit = DEFAULT_REJECTION_LIMIT;
+        /**
+         * Window within which rejections of a source are counted.
+         */
+        private long rejectionWindowMsec = DEFAULT_REJECTION_WINDOW_MSEC;
 
         /**
          * Gets token secret.
@@ -100,6 +189,188 @@ public class AppProperties {
         public void setTokenExpirationMsec(final long atokenExpirationMsec) {
             this.tokenExpirationMsec = atokenExpirationMsec;
         }
+
+        /**
+         * Gets refresh token expiration msec.
+         *
+         * @return the refresh token expiration msec
+         */
+        public long getRefreshTokenExpirationMsec() {
+            return refreshTokenExpirationMsec;
+        }
+
+        /**
+         * Sets refresh token expiration msec.
+         *
+         * @param arefreshTokenExpirationMsec the refresh token expiration
+         */
+        public void setRefreshTokenExpirationMsec(
+                final long arefreshTokenExpirationMsec) {
+            this.refreshTokenExpirationMsec = arefreshTokenExpirationMsec;
+        }
+
+        /**
+         * Is stateless.
+         *
+         * @return true if tokens are self contained signed tokens
+         */
+        public boolean isStateless() {
+            return stateless;
+        }
+
+        /**
+         * Sets stateless.
+         *
+         * @param astateless the stateless
+         */
+        public void setStateless(final boolean astateless) {
+            this.stateless = astateless;
+        }
+
+        /**
+         * Gets token store.
+         *
+         * @return the token store
+         */
+        public TokenStoreType getTokenStore() {
+            return tokenStore;
+        }
+
+        /**
+         * Sets token store.
+         *
+         * @param atokenStore the token store
+         */
+        public void setTokenStore(final TokenStoreType atokenStore) {
+            this.tokenStore = atokenStore;
+        }
+
+        /**
+         * Gets near cache expiration msec.
+         *
+         * @return the near cache expiration msec
+         */
+        public long getNearCacheExpirationMsec() {
+            return nearCacheExpirationMsec;
+        }
+
+        /**
+         * Sets near cache expiration msec.
+         *
+         * @param anearCacheExpirationMsec the near cache expiration msec
+         */
+        public void setNearCacheExpirationMsec(
+                final long anearCacheExpirationMsec) {
+            this.nearCacheExpirationMsec = anearCacheExpirationMsec;
+        }
+
+        /**
+         * Gets password hash queue capacity.
+         *
+         * @return the password hash queue capacity
+         */
+        public int getPasswordHashQueueCapacity() {
+            return passwordHashQueueCapacity;
+        }
+
+        /**
+         * Sets password hash queue capacity.
+         *
+         * @param apasswordHashQueueCapacity the password hash queue capacity
+         */
+        public void setPasswordHashQueueCapacity(
+                final int apasswordHashQueueCapacity) {
+            this.passwordHashQueueCapacity = apasswordHashQueueCapacity;
+        }
+
+        /**
+         * Gets password hash timeout msec.
+         *
+         * @return the password hash timeout msec
+         */
+        public long getPasswordHashTimeoutMsec() {
+            return passwordHashTimeoutMsec;
+        }
+
+        /**
+         * Sets password hash timeout msec.
+         *
+         * @param apasswordHashTimeoutMsec the password hash timeout msec
+         */
+        public void setPasswordHashTimeoutMsec(
+                final long apasswordHashTimeoutMsec) {
+            this.passwordHashTimeoutMsec = apasswordHashTimeoutMsec;
+        }
+
+        /**
+         * Gets rejected token expiration msec.
+         *
+         * @return the rejected token expiration msec
+         */
+        public long getRejectedTokenExpirationMsec() {
+            return rejectedTokenExpirationMsec;
+        }
+
+        /**
+         * Sets rejected token expiration msec.
+         *
+         * @param arejectedTokenExpirationMsec the rejected token
+         *                                     expiration msec
+         */
+        public void setRejectedTokenExpirationMsec(
+                final long arejectedTokenExpirationMsec) {
+            this.rejectedTokenExpirationMsec = arejectedTokenExpirationMsec;
+        }
+
+        /**
+         * Gets rejection limit.
+         *
+         * @return the rejection limit
+         */
+        public int getRejectionLimit() {
+            return rejectionLimit;
+        }
+
+        /**
+         * Sets rejection limit.
+         *
+         * @param arejectionLimit the rejection limit
+         */
+        public void setRejectionLimit(final int arejectionLimit) {
+            this.rejectionLimit = arejectionLimit;
+        }
+
+        /**
+         * Gets rejection window msec.
+         *
+         * @return the rejection window msec
+         */
+        public long getRejectionWindowMsec() {
+            return rejectionWindowMsec;
+        }
+
+        /**
+         * Sets rejection window msec.
+         *
+         * @param arejectionWindowMsec the rejection window msec
+         */
+        public void setRejectionWindowMsec(final long arejectionWindowMsec) {
+            this.rejectionWindowMsec = arejectionWindowMsec;
+        }
+    }
+
+    /**
+     * Where issued tokens are stored.
+     */
+    public enum TokenStoreType {
+        /**
+         * In the memory of this node.
+         */
+        LOCAL,
+        /**
+         * In the shared database, cached near this node.
+         */
+        NEAR
     }
 
     /**
@@ -6,10 +6,17 @@ import com.gurukulams.core.service.LearnerProfileService;
 import com.gurukulams.core.service.LearnerService;
 import com.gurukulams.starter.security.filter.TokenAuthenticationFilter;
 import com.gurukulams.starter.security.oauth2.service.CustomOAuth2UserService;
+import com.gurukulams.starter.security.oauth2.util.AuthorizationRequestCodec;
 import com.gurukulams.starter.security.oauth2.HttpCookieOAuth2AuthorizationRequestRepository;
 import com.gurukulams.starter.security.oauth2.service.OAuth2AuthenticationFailureHandler;
 import com.gurukulams.starter.security.oauth2.service.OAuth2AuthenticationSuccessHandler;
+import com.gurukulams.starter.security.cache.CacheConfig;
+import com.gurukulams.starter.security.cache.RejectedTokens;
+import com.gurukulams.starter.security.cache.TokenStore;
 import com.gurukulams.starter.security.service.AuthenticationService;
+import com.gurukulams.starter.security.service.FeatureIndex;
+import com.gurukulams.starter.security.util.JWTCodec;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
@@ -28,7 +35,9 @@ import org.springframework.security.web.servlet.util.matcher.PathPatternRequestM
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.filter.CorsFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -104,31 +113,49 @@ public class SecurityConfig {
      * @param alearnerProfileService
      * @param appProperties          properties
      * @param aCacheManager
+     * @param aTokenStore
      * @param auserDetailsService
+     * @param handlerExceptionResolver writes the error responses of the
+     *                                 token filter
      */
     public SecurityConfig(final LearnerService alearnerService,
                           final LearnerProfileService alearnerProfileService,
                           final AppProperties appProperties,
                           final CacheManager aCacheManager,
-                          final UserDetailsService auserDetailsService) {
+                          final TokenStore aTokenStore,
+                          final UserDetailsService auserDetailsService,
+                          @Qualifier("handlerExceptionResolver")
+                          final HandlerExceptionResolver
+                                  handlerExceptionResolver) {
         this.learnerService = alearnerService;
         this.learnerProfileService = alearnerProfileService;
 
         userDetailsService = auserDetailsService;
         authenticationService = new AuthenticationService(
-                appProperties.getAuth().getTokenSecret(),
-                appProperties.getAuth().getTokenExpirationMsec(),
-                appProperties.getFeature(),
-                aCacheManager.getCache("Auth"), userDetailsService,
+                new JWTCodec(appProperties.getAuth()),
+                appProperties.getAuth(),
+                new FeatureIndex(appProperties.getFeature()),
+                aTokenStore,
+                aCacheManager.getCache(CacheConfig.PRINCIPAL),
+                userDetailsService,
                 learnerProfileService);
 
 
         tokenAuthenticationFilter = new TokenAuthenticationFilter(
-                authenticationService);
+                authenticationService,
+                new RejectedTokens(
+                        Duration.ofMillis(appProperties.getAuth()
+                                .getRejectedTokenExpirationMsec()),
+                        appProperties.getAuth().getRejectionLimit(),
+                        Duration.ofMillis(appProperties.getAuth()
+                                .getRejectionWindowMsec())),
+                handlerExceptionResolver);
 
 
         cookieAuthRepo = new
-                HttpCookieOAuth2AuthorizationRequestRepository();
+                HttpCookieOAuth2AuthorizationRequestRepository(
+                        new AuthorizationRequestCodec(
+                                appProperties.getAuth().getTokenSecret()));
         oAuth2AuthenticationSuccessHandler = new
                 OAuth2AuthenticationSuccessHandler(authenticationService,
                 appProperties,
@@ -196,7 +223,9 @@ public class SecurityConfig {
                                 builder.matcher("/events/**"),
                                 builder.matcher("/ta/events"),
                                 builder.matcher("/ta/events/**"),
-                                builder.matcher("/oauth2/**")
+                                builder.matcher("/oauth2/**"),
+                                builder.matcher("/actuator/health/liveness"),
+                                builder.matcher("/actuator/health/readiness")
                         )
                         .permitAll()
                         .requestMatchers(toH2Console()).permitAll()
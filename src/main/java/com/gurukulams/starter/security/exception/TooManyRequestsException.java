@@ -0,0 +1,33 @@
+package com.gurukulams.starter.security.exception;
+
+/**
+ * Thrown when a request is shed as the server is saturated.
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    /**
+     * Seconds after which the client may retry.
+     */
+    private final long retryAfterSeconds;
+
+    /**
+     * Instantiates a new Too many requests exception.
+     *
+     * @param message            the message
+     * @param aRetryAfterSeconds seconds after which the client may retry
+     */
+    public TooManyRequestsException(final String message,
+                                    final long aRetryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = aRetryAfterSeconds;
+    }
+
+    /**
+     * Gets the seconds after which the client may retry.
+     *
+     * @return retryAfterSeconds
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
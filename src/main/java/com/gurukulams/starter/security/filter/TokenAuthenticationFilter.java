@@ -1,6 +1,11 @@
 package com.gurukulams.starter.security.filter;
 
+import com.gurukulams.starter.security.cache.RejectedTokens;
+import com.gurukulams.starter.security.exception.TooManyRequestsException;
 import com.gurukulams.starter.security.service.AuthenticationService;
+import com.gurukulams.starter.security.util.JWTCodec;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,6 +17,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
 
 import java.io.IOException;
 
@@ -33,15 +39,33 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
      */
     private final AuthenticationService authenticationService;
 
+    /**
+     * Recently rejected tokens and sources.
+     */
+    private final RejectedTokens rejectedTokens;
+
+    /**
+     * Writes the error response of a limited source, as the
+     * controllers do.
+     */
+    private final HandlerExceptionResolver handlerExceptionResolver;
+
 
     /**
      * TokenAuthenticationFilter.
      *
      * @param aAuthenticationService            token provider
+     * @param aRejectedTokens                   recently rejected tokens
+     * @param aHandlerExceptionResolver         resolves a limited source
+     *                                          to its error response
      */
     public TokenAuthenticationFilter(
-            final AuthenticationService aAuthenticationService) {
+            final AuthenticationService aAuthenticationService,
+            final RejectedTokens aRejectedTokens,
+            final HandlerExceptionResolver aHandlerExceptionResolver) {
         this.authenticationService = aAuthenticationService;
+        this.rejectedTokens = aRejectedTokens;
+        this.handlerExceptionResolver = aHandlerExceptionResolver;
     }
 
     /**
@@ -56,27 +80,76 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
                                     final HttpServletResponse response,
                                     final FilterChain filterChain)
             throws ServletException, IOException {
-        try {
-            final String jwt = getJwtFromRequest(request);
+        final String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt)) {
-                UsernamePasswordAuthenticationToken authentication =
-                        authenticationService.getAuthentication(
-                                request.getRequestURI(), jwt);
-                authentication.setDetails(new WebAuthenticationDetailsSource()
-                        .buildDetails(request));
-                SecurityContextHolder.getContext()
-                        .setAuthentication(
-                                authentication);
+        if (StringUtils.hasText(jwt)) {
+            // Behind a trusted proxy, this is the forwarded client address
+            final String source = request.getRemoteAddr();
+            // Expired tokens are accepted for logout and refresh,
+            // so a rejection elsewhere does not hold for them.
+            final boolean rejected;
+            if (JWTCodec.acceptsExpired(request.getRequestURI())
+                    || !rejectedTokens.isRejected(jwt)) {
+                rejected = !authenticate(request, jwt, source);
+            } else {
+                rejected = true;
+            }
+            // Only failing tokens of a limited source are turned away
+            if (rejected && rejectedTokens.isLimited(source)) {
+                handlerExceptionResolver.resolveException(request, response,
+                        null, new TooManyRequestsException(
+                                "Too many rejected tokens",
+                                rejectedTokens.getRetryAfterSeconds()));
+                return;
+            }
+        }
 
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Sets the authentication of the token in the security context.
+     * An invalid token is remembered, and logged without its trace.
+     * An expired token is not counted against the source: it is only
+     * left unauthenticated, so that its client gets 401 and refreshes.
+     *
+     * @param request request
+     * @param jwt     the token
+     * @param source  address of the client
+     * @return false if the token was rejected as invalid
+     */
+    private boolean authenticate(final HttpServletRequest request,
+                              final String jwt,
+                              final String source) {
+        try {
+            UsernamePasswordAuthenticationToken authentication =
+                    authenticationService.getAuthentication(
+                            request.getRequestURI(), jwt);
+            authentication.setDetails(new WebAuthenticationDetailsSource()
+                    .buildDetails(request));
+            SecurityContextHolder.getContext()
+                    .setAuthentication(
+                            authentication);
+        } catch (final ExpiredJwtException ex) {
+            LOG.debug("Expired token source={} uri={}", source,
+                    request.getRequestURI());
+        } catch (final JwtException | IllegalArgumentException ex) {
+            if (rejectedTokens.reject(jwt, source)) {
+                LOG.warn("Rejected token source={} uri={} reason={},"
+                        + " limiting the source", source,
+                        request.getRequestURI(), ex.getClass().getSimpleName());
+            } else {
+                LOG.debug("Rejected token source={} uri={} reason={}",
+                        source, request.getRequestURI(),
+                        ex.getClass().getSimpleName());
             }
+            return false;
         } catch (final Exception ex) {
             LOG.error(
                     "Could not set user authentication in security context",
                     ex);
         }
-
-        filterChain.doFilter(request, response);
+        return true;
     }
 
     private String getJwtFromRequest(final HttpServletRequest request) {
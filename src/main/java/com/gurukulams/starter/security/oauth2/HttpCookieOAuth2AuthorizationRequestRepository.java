@@ -1,6 +1,7 @@
 package com.gurukulams.starter.security.oauth2;
 
 import com.nimbusds.oauth2.sdk.util.StringUtils;
+import com.gurukulams.starter.security.oauth2.util.AuthorizationRequestCodec;
 import com.gurukulams.starter.security.oauth2.util.CookieUtils;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -24,6 +25,21 @@ public class HttpCookieOAuth2AuthorizationRequestRepository
      */
     private static final int COOKIE_EXPIRE_SECONDS = 180;
 
+    /**
+     * Codec of the authorization request cookie.
+     */
+    private final AuthorizationRequestCodec authorizationRequestCodec;
+
+    /**
+     * Builds Http Cookie OAuth2 Authorization Request Repository.
+     *
+     * @param anAuthorizationRequestCodec codec of the cookie
+     */
+    public HttpCookieOAuth2AuthorizationRequestRepository(
+            final AuthorizationRequestCodec anAuthorizationRequestCodec) {
+        this.authorizationRequestCodec = anAuthorizationRequestCodec;
+    }
+
     /**
      * loads the authorisation request.
      *
@@ -35,8 +51,8 @@ public class HttpCookieOAuth2AuthorizationRequestRepository
             final HttpServletRequest request) {
         return CookieUtils
                 .getCookie(request, OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME)
-                .map(cookie -> CookieUtils
-                        .deserialize(cookie, OAuth2AuthorizationRequest.class))
+                .map(cookie -> authorizationRequestCodec
+                        .decode(cookie.getValue()))
                 .orElse(null);
     }
 
@@ -62,7 +78,8 @@ public class HttpCookieOAuth2AuthorizationRequestRepository
 
         CookieUtils
                 .addCookie(response, OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME,
-                        CookieUtils.serialize(authorizationRequest),
+                        authorizationRequestCodec.encode(authorizationRequest,
+                                COOKIE_EXPIRE_SECONDS),
                         COOKIE_EXPIRE_SECONDS);
         final String redirectUriAfterLogin =
                 request.getParameter(REDIRECT_URI_PARAM_COOKIE_NAME);
@@ -0,0 +1,212 @@
+package com.gurukulams.starter.security.oauth2.util;
+
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+/**
+ * Encodes an OAuth2 authorization request into a signed cookie value,
+ * {@code v1.<json>.<signature>}, both parts Base64 URL encoded.
+ * <p>
+ * Only the fields the authorization request is rebuilt from are kept,
+ * under short keys; the authorization request URI is derived from them
+ * again. The HMAC signature and an expiry are checked before anything
+ * of the value is trusted, and nothing is ever deserialized as objects.
+ */
+public final class AuthorizationRequestCodec {
+
+    /**
+     * Version of the encoding.
+     */
+    private static final String VERSION = "v1";
+
+    /**
+     * Separator of the parts.
+     */
+    private static final char SEPARATOR = '.';
+
+    /**
+     * Milliseconds in a second.
+     */
+    private static final long MILLIS_PER_SECOND = 1_000L;
+
+    /**
+     * HMAC Algorithm.
+     */
+    private static final String ALGORITHM = "HmacSHA256";
+
+    /**
+     * Key of the authorization uri.
+     */
+    private static final String AUTHORIZATION_URI = "u";
+
+    /**
+     * Key of the client id.
+     */
+    private static final String CLIENT_ID = "c";
+
+    /**
+     * Key of the redirect uri.
+     */
+    private static final String REDIRECT_URI = "r";
+
+    /**
+     * Key of the scopes.
+     */
+    private static final String SCOPES = "s";
+
+    /**
+     * Key of the state.
+     */
+    private static final String STATE = "st";
+
+    /**
+     * Key of the additional parameters.
+     */
+    private static final String PARAMETERS = "p";
+
+    /**
+     * Key of the attributes.
+     */
+    private static final String ATTRIBUTES = "a";
+
+    /**
+     * Key of the expiry, in epoch seconds.
+     */
+    private static final String EXPIRES_AT = "e";
+
+    /**
+     * Type of the decoded json.
+     */
+    private static final TypeReference<Map<String, Object>> MAP_TYPE =
+            new TypeReference<>() { };
+
+    /**
+     * Mapper to and from json.
+     */
+    private final JsonMapper jsonMapper;
+
+    /**
+     * Initialized Mac, cloned for every use.
+     */
+    private final Mac mac;
+
+    /**
+     * Builds Authorization Request Codec.
+     *
+     * @param secret the secret the signing key is derived from
+     */
+    public AuthorizationRequestCodec(final String secret) {
+        this.jsonMapper = JsonMapper.builder().build();
+        try {
+            final Mac derivation = Mac.getInstance(ALGORITHM);
+            derivation.init(new SecretKeySpec(
+                    secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+            // A key of its own, so that cookies are never valid as tokens
+            this.mac = Mac.getInstance(ALGORITHM);
+            this.mac.init(new SecretKeySpec(derivation.doFinal(
+                    "oauth2-authorization-request"
+                            .getBytes(StandardCharsets.UTF_8)), ALGORITHM));
+        } catch (final GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Encodes the authorization request.
+     *
+     * @param request       the authorization request
+     * @param maxAgeSeconds seconds for which the value is valid
+     * @return value
+     */
+    public String encode(final OAuth2AuthorizationRequest request,
+                         final int maxAgeSeconds) {
+        final Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put(AUTHORIZATION_URI, request.getAuthorizationUri());
+        fields.put(CLIENT_ID, request.getClientId());
+        fields.put(REDIRECT_URI, request.getRedirectUri());
+        fields.put(SCOPES, request.getScopes());
+        fields.put(STATE, request.getState());
+        fields.put(PARAMETERS, request.getAdditionalParameters());
+        fields.put(ATTRIBUTES, request.getAttributes());
+        fields.put(EXPIRES_AT,
+                System.currentTimeMillis() / MILLIS_PER_SECOND + maxAgeSeconds);
+
+        final String payload = VERSION + SEPARATOR + Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(jsonMapper.writeValueAsBytes(fields));
+        return payload + SEPARATOR + Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(sign(payload));
+    }
+
+    /**
+     * Decodes the authorization request. Fields are trusted as
+     * encoded once the signature matches.
+     *
+     * @param value the value
+     * @return authorization request, null if the value is not valid
+     */
+    @SuppressWarnings("unchecked")
+    public OAuth2AuthorizationRequest decode(final String value) {
+        final int signatureAt = value.lastIndexOf(SEPARATOR);
+        if (!value.startsWith(VERSION + SEPARATOR)
+                || signatureAt <= VERSION.length()) {
+            return null;
+        }
+        final String payload = value.substring(0, signatureAt);
+        try {
+            if (!MessageDigest.isEqual(sign(payload), Base64.getUrlDecoder()
+                    .decode(value.substring(signatureAt + 1)))) {
+                return null;
+            }
+            final Map<String, Object> fields = jsonMapper.readValue(
+                    Base64.getUrlDecoder().decode(
+                            payload.substring(VERSION.length() + 1)),
+                    MAP_TYPE);
+            if (((Number) fields.get(EXPIRES_AT)).longValue()
+                    < System.currentTimeMillis() / MILLIS_PER_SECOND) {
+                return null;
+            }
+            return OAuth2AuthorizationRequest.authorizationCode()
+                    .authorizationUri((String) fields.get(AUTHORIZATION_URI))
+                    .clientId((String) fields.get(CLIENT_ID))
+                    .redirectUri((String) fields.get(REDIRECT_URI))
+                    .scopes(new LinkedHashSet<>(
+                            (Collection<String>) fields.get(SCOPES)))
+                    .state((String) fields.get(STATE))
+                    .additionalParameters(
+                            (Map<String, Object>) fields.get(PARAMETERS))
+                    .attributes((Map<String, Object>) fields.get(ATTRIBUTES))
+                    .build();
+        } catch (final IllegalArgumentException | JacksonException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Signs the payload.
+     *
+     * @param payload the payload
+     * @return signature
+     */
+    private byte[] sign(final String payload) {
+        try {
+            return ((Mac) mac.clone())
+                    .doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+        } catch (final CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
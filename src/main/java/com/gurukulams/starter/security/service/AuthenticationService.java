@@ -1,10 +1,18 @@
 package com.gurukulams.starter.security.service;
 
+import com.gurukulams.core.payload.Learner;
 import com.gurukulams.core.payload.RegistrationRequest;
 import com.gurukulams.core.service.LearnerProfileService;
+import com.gurukulams.starter.security.cache.CachedPrincipal;
+import com.gurukulams.starter.security.cache.TokenDenylist;
+import com.gurukulams.starter.security.cache.TokenStore;
+import com.gurukulams.starter.security.config.AppProperties;
 import com.gurukulams.starter.security.config.UserPrincipal;
 import com.gurukulams.starter.security.payload.AuthenticationResponse;
 import com.gurukulams.starter.security.payload.RefreshToken;
+import com.gurukulams.starter.security.util.JWTCodec;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import org.springframework.cache.Cache;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -13,14 +21,11 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 
 import java.security.Principal;
 import java.sql.SQLException;
-import java.util.List;
+import java.time.Duration;
 import java.util.Map;
 import java.util.UUID;
 
 import static com.gurukulams.starter.security.util.JWTGenerator.getBearer;
-import static com.gurukulams.starter.security.util.JWTGenerator.isExpired;
-import static com.gurukulams.starter.security.util.JWTGenerator.getJWTCompact;
-import static com.gurukulams.starter.security.util.JWTGenerator.getUserNameFromToken;
 
 /**
  * The type Token provider.
@@ -28,24 +33,69 @@ import static com.gurukulams.starter.security.util.JWTGenerator.getUserNameFromT
 public class AuthenticationService {
 
     /**
-     * Cache to hold token Secret.
+     * Claim carrying the use of a stateless token.
      */
-    private final String tokenSecret;
+    private static final String TOKEN_USE = "use";
 
     /**
-     * Cache to hold auth tokens.
+     * Claim binding a stateless refresh token to its access token id.
      */
-    private final Cache authCache;
+    private static final String ACCESS_TOKEN_ID = "ati";
 
     /**
-     * Cache to hold auth tokens.
+     * Use of access tokens.
+     */
+    private static final String ACCESS = "access";
+
+    /**
+     * Use of refresh tokens.
+     */
+    private static final String REFRESH = "refresh";
+
+    /**
+     * Use of welcome tokens.
+     */
+    private static final String WELCOME = "welcome";
+
+    /**
+     * Codec to sign and verify JWT.
+     */
+    private final JWTCodec jwtCodec;
+
+    /**
+     * Store to hold auth tokens.
+     */
+    private final TokenStore tokenStore;
+
+    /**
+     * Cache to hold resolved principals of auth tokens.
+     */
+    private final Cache principalCache;
+
+    /**
+     * Token Expiration.
      */
     private final long tokenExpirationMsec;
 
     /**
-     * Features of the User.
+     * Refresh Token Expiration.
+     */
+    private final long refreshTokenExpirationMsec;
+
+    /**
+     * Whether tokens are self contained signed tokens.
+     */
+    private final boolean stateless;
+
+    /**
+     * Revoked stateless tokens.
+     */
+    private final TokenDenylist tokenDenylist;
+
+    /**
+     * Features by User.
      */
-    private final Map<String, List<String>> features;
+    private final FeatureIndex featureIndex;
 
     /**
      * UserDetailsService.
@@ -59,24 +109,31 @@ public class AuthenticationService {
 
     /**
      * gg.
-     * @param aTokenSecret
-     * @param aTokenExpirationMsec
-     * @param theFeatures
-     * @param aAuthCache
+     * @param aJwtCodec
+     * @param anAuth
+     * @param aFeatureIndex
+     * @param aTokenStore
+     * @param aPrincipalCache
      * @param auserDetailsService
      * @param alearnerProfileService
      */
-    public AuthenticationService(final String aTokenSecret,
-                     final long aTokenExpirationMsec,
-                     final Map<String, List<String>> theFeatures,
-                     final Cache aAuthCache,
+    public AuthenticationService(final JWTCodec aJwtCodec,
+                     final AppProperties.Auth anAuth,
+                     final FeatureIndex aFeatureIndex,
+                     final TokenStore aTokenStore,
+                     final Cache aPrincipalCache,
                      final UserDetailsService auserDetailsService,
                      final LearnerProfileService alearnerProfileService) {
-        this.tokenSecret = aTokenSecret;
-        this.tokenExpirationMsec = aTokenExpirationMsec;
-        this.features = theFeatures;
+        this.jwtCodec = aJwtCodec;
+        this.tokenExpirationMsec = anAuth.getTokenExpirationMsec();
+        this.refreshTokenExpirationMsec =
+                anAuth.getRefreshTokenExpirationMsec();
+        this.stateless = anAuth.isStateless();
+        this.tokenDenylist = new TokenDenylist(aTokenStore);
+        this.featureIndex = aFeatureIndex;
         this.userDetailsService = auserDetailsService;
-        this.authCache = aAuthCache;
+        this.tokenStore = aTokenStore;
+        this.principalCache = aPrincipalCache;
         this.learnerProfileService = alearnerProfileService;
     }
 
@@ -89,20 +146,65 @@ public class AuthenticationService {
     public UsernamePasswordAuthenticationToken getAuthentication(
                             final String requestURI,
                             final String token) {
-        Cache.ValueWrapper valueWrapper = authCache.get(token);
+        final String jwtToken;
+        final Claims verifiedClaims;
+        if (stateless) {
+            verifiedClaims = verifyUse(
+                    jwtCodec.getClaims(requestURI, token), ACCESS);
+            jwtToken = token;
+        } else {
+            verifiedClaims = null;
+            jwtToken = tokenStore.get(token);
 
-        if (valueWrapper == null) {
-            throw new IllegalArgumentException("Invalid Token");
+            if (jwtToken == null) {
+                throw new IllegalArgumentException("Invalid Token");
+            }
         }
 
-        String jwtToken = valueWrapper.get().toString();
+        final long now = System.currentTimeMillis();
+        final CachedPrincipal cachedPrincipal =
+                principalCache.get(token, CachedPrincipal.class);
 
+        if (cachedPrincipal != null && !cachedPrincipal.isExpired(now)) {
+            return getAuthentication(cachedPrincipal.userDetails());
+        }
 
-        final String userName =
-                getUserNameFromToken(requestURI, jwtToken,
-                        tokenSecret);
+        final Claims claims = verifiedClaims == null
+                ? jwtCodec.getClaims(requestURI, jwtToken) : verifiedClaims;
         final UserDetails userDetails =
-                userDetailsService.loadUserByUsername(userName);
+                userDetailsService.loadUserByUsername(claims.getSubject());
+
+        final long expiresAt = claims.getExpiration().getTime();
+        if (now < expiresAt) {
+            principalCache.put(token,
+                    new CachedPrincipal(userDetails, expiresAt));
+        }
+        return getAuthentication(userDetails);
+    }
+
+    /**
+     * Verifies that a stateless token is meant for the given use
+     * and is not revoked.
+     * @param claims
+     * @param use
+     * @return claims
+     */
+    private Claims verifyUse(final Claims claims, final String use) {
+        if (!use.equals(claims.get(TOKEN_USE, String.class))
+                || tokenDenylist.isDenied(claims)) {
+            throw new IllegalArgumentException("Invalid Token");
+        }
+        return claims;
+    }
+
+    /**
+     * Builds a fresh authentication for the user, as the filter
+     * attaches request details to it.
+     * @param userDetails
+     * @return authentication
+     */
+    private UsernamePasswordAuthenticationToken getAuthentication(
+                            final UserDetails userDetails) {
         return new UsernamePasswordAuthenticationToken(
                 userDetails, userDetails.getPassword(),
                 userDetails.getAuthorities());
@@ -127,15 +229,28 @@ public class AuthenticationService {
      */
     public AuthenticationResponse getWelcomeResponse(
             final String authHeader) {
-        Cache.ValueWrapper valueWrapper = authCache.get(authHeader);
+        if (stateless) {
+            final Claims claims;
+            try {
+                claims = verifyUse(jwtCodec.getClaims(authHeader), WELCOME);
+            } catch (final JwtException | IllegalArgumentException ex) {
+                throw new BadCredentialsException("Invalid Token");
+            }
+            // Welcome tokens are single use.
+            if (!tokenDenylist.deny(claims)) {
+                throw new BadCredentialsException("Invalid Token");
+            }
+            return getAuthenticationResponse(claims.getSubject());
+        }
+        final String userName = tokenStore.get(authHeader);
 
-        if (valueWrapper == null) {
+        if (userName == null) {
             throw new BadCredentialsException("Invalid Token");
         }
         AuthenticationResponse response =
-                getAuthenticationResponse(valueWrapper.get().toString());
+                getAuthenticationResponse(userName);
 
-        authCache.evict(authHeader);
+        tokenStore.evict(authHeader);
 
         return response;
     }
@@ -145,24 +260,55 @@ public class AuthenticationService {
      * @return welcomeToken
      */
     public String generateWelcomeToken(final String userName) {
+        if (stateless) {
+            return jwtCodec.compact(userName, tokenExpirationMsec,
+                    Map.of(TOKEN_USE, WELCOME));
+        }
         String welcomeToken = UUID.randomUUID().toString();
-        this.authCache.put(welcomeToken, userName);
+        this.tokenStore.put(welcomeToken, userName,
+                Duration.ofMillis(tokenExpirationMsec));
         return welcomeToken;
     }
 
     /**
      * generate opaque token after login.
      * @see <a href="https://shorturl.at/uWlRE">Opaque Token</a>
-     * @param userName the userName
+     * @param userPrincipal the userPrincipal
      * @return token string
      */
-    private String generateToken(final String userName) {
-        String opaqueToken = UUID.randomUUID().toString();
-        this.authCache.put(opaqueToken, getJWTCompact(userName,
-                tokenExpirationMsec,
-                tokenSecret));
-        return opaqueToken;
+    private String generateToken(final UserPrincipal userPrincipal) {
+        final long expiresAt = System.currentTimeMillis()
+                + tokenExpirationMsec;
+        final String token;
+        if (stateless) {
+            token = jwtCodec.compact(userPrincipal.getUsername(),
+                    tokenExpirationMsec, Map.of(TOKEN_USE, ACCESS));
+        } else {
+            token = UUID.randomUUID().toString();
+            // Kept till refresh tokens expire, to allow refresh and logout
+            // with an expired token.
+            this.tokenStore.put(token, jwtCodec.compact(
+                    userPrincipal.getUsername()),
+                    Duration.ofMillis(refreshTokenExpirationMsec));
+        }
+        this.principalCache.put(token,
+                new CachedPrincipal(userPrincipal, expiresAt));
+        return token;
+
+    }
 
+    /**
+     * Evicts the token along with its resolved principal.
+     *
+     * @param token
+     */
+    private void evict(final String token) {
+        if (stateless) {
+            tokenDenylist.deny(jwtCodec.getClaimsIgnoringExpiry(token));
+        } else {
+            tokenStore.evict(token);
+        }
+        principalCache.evict(token);
     }
 
     /**
@@ -171,7 +317,7 @@ public class AuthenticationService {
      * @param authHeader
      */
     public void logout(final String authHeader) {
-        authCache.evict(getBearer(authHeader));
+        evict(getBearer(authHeader));
     }
 
 
@@ -183,8 +329,16 @@ public class AuthenticationService {
      * @return refreshToken
      */
     public String generateRefreshToken(final String token) {
+        if (stateless) {
+            final Claims claims = jwtCodec.getClaims(token);
+            return jwtCodec.compact(claims.getSubject(),
+                    refreshTokenExpirationMsec,
+                    Map.of(TOKEN_USE, REFRESH,
+                            ACCESS_TOKEN_ID, claims.getId()));
+        }
         String refreshToken = UUID.randomUUID().toString();
-        this.authCache.put(refreshToken, token);
+        this.tokenStore.put(refreshToken, token,
+                Duration.ofMillis(refreshTokenExpirationMsec));
         return refreshToken;
     }
 
@@ -203,7 +357,7 @@ public class AuthenticationService {
         learnerProfileService.create(principal.getName(),
                 registrationRequest);
 
-        authCache.evict(getBearer(authHeader));
+        evict(getBearer(authHeader));
         return getAuthenticationResponse(principal.getName());
     }
 
@@ -218,25 +372,24 @@ public class AuthenticationService {
                                 final Principal userName,
                                 final RefreshToken refreshToken) {
 
+        if (stateless) {
+            return refreshStateless(authHeader, userName, refreshToken);
+        }
+
         // Cleanup Existing Tokens.
-        Cache.ValueWrapper refreshTokenCache = authCache
-                .get(refreshToken.getToken());
+        String authToken = tokenStore.get(refreshToken.getToken());
 
 
-        if (refreshTokenCache == null) {
+        if (authToken == null) {
             throw new BadCredentialsException("Refresh Token unavailable");
         } else {
-            String authToken = refreshTokenCache.get().toString();
+            String jwtToken = tokenStore.get(authToken);
 
-            Cache.ValueWrapper authTokenCache = authCache
-                    .get(authToken);
-
-            if (authTokenCache == null) {
+            if (jwtToken == null) {
                 throw new BadCredentialsException("Invalid Token");
             }
 
-            if (!isExpired(authTokenCache.get().toString(),
-                    tokenSecret)) {
+            if (!jwtCodec.isExpired(jwtToken)) {
                 throw new BadCredentialsException("Token is not Expired Yet");
             }
 
@@ -244,20 +397,92 @@ public class AuthenticationService {
                 throw new BadCredentialsException("Tokens are not matching");
             }
 
-            authCache.evict(refreshToken.getToken());
-            authCache.evict(authToken);
+            // Of concurrent refreshes, only the one removing
+            // the refresh token rotates.
+            if (!tokenStore.remove(refreshToken.getToken(), authToken)) {
+                throw new BadCredentialsException("Refresh Token unavailable");
+            }
+            evict(authToken);
 
             return getAuthenticationResponse(userName.getName());
         }
 
     }
 
-    private AuthenticationResponse getAuthenticationResponse(
+    /**
+     * refresh with stateless tokens. The refresh token is denied first
+     * so that it is redeemed only once.
+     * @param authHeader
+     * @param userName
+     * @param refreshToken
+     * @return authenticationResponse
+     */
+    private AuthenticationResponse refreshStateless(final String authHeader,
+                                final Principal userName,
+                                final RefreshToken refreshToken) {
+        final Claims refreshClaims;
+        try {
+            refreshClaims = verifyUse(
+                    jwtCodec.getClaims(refreshToken.getToken()), REFRESH);
+        } catch (final JwtException | IllegalArgumentException ex) {
+            throw new BadCredentialsException("Refresh Token unavailable");
+        }
+
+        final String authToken = getBearer(authHeader);
+
+        if (!jwtCodec.isExpired(authToken)) {
+            throw new BadCredentialsException("Token is not Expired Yet");
+        }
+
+        final Claims authClaims = jwtCodec.getClaimsIgnoringExpiry(authToken);
+        if (!authClaims.getId().equals(
+                refreshClaims.get(ACCESS_TOKEN_ID, String.class))) {
+            throw new BadCredentialsException("Tokens are not matching");
+        }
+
+        if (!tokenDenylist.deny(refreshClaims)) {
+            throw new BadCredentialsException("Refresh Token unavailable");
+        }
+        evict(authToken);
+
+        return getAuthenticationResponse(userName.getName());
+    }
+
+    /**
+     * generate AuthenticationResponse.
+     *
+     * @param userName the authenticated user
+     * @return authenticationResponse
+     */
+    public AuthenticationResponse getAuthenticationResponse(
             final String userName) {
-        UserPrincipal userPrincipal =
-                (UserPrincipal) userDetailsService
-                        .loadUserByUsername(userName);
-        String authToken = generateToken(userName);
+        return getAuthenticationResponse((UserPrincipal) userDetailsService
+                .loadUserByUsername(userName));
+    }
+
+    /**
+     * generate AuthenticationResponse for a learner already read.
+     *
+     * @param learner the authenticated learner
+     * @return authenticationResponse
+     * @throws SQLException if the profile could not be read
+     */
+    public AuthenticationResponse getAuthenticationResponse(
+            final Learner learner) throws SQLException {
+        return getAuthenticationResponse(UserPrincipal.create(learner,
+                learnerProfileService.read(learner.userHandle())));
+    }
+
+    /**
+     * generate AuthenticationResponse.
+     *
+     * @param userPrincipal the authenticated user
+     * @return authenticationResponse
+     */
+    private AuthenticationResponse getAuthenticationResponse(
+            final UserPrincipal userPrincipal) {
+        final String userName = userPrincipal.getUsername();
+        String authToken = generateToken(userPrincipal);
 
         if (userPrincipal.isRegistered()) {
             return new AuthenticationResponse(userName,
@@ -267,12 +492,7 @@ public class AuthenticationService {
                     this.generateRefreshToken(authToken),
                     null,
                     userPrincipal.getProfilePicture(),
-                    this.features
-                        .entrySet()
-                        .stream()
-                        .filter(entry -> entry.getValue().contains(userName))
-                        .map(Map.Entry::getKey)
-                        .toList());
+                    featureIndex.getFeatures(userName));
         }
 
         return new AuthenticationResponse(userName,
@@ -280,7 +500,7 @@ public class AuthenticationService {
                 null,
                 null,
                 null,
-                generateToken(userName),
+                generateToken(userPrincipal),
                 userPrincipal.getProfilePicture(),
                 null);
     }
@@ -3,7 +3,12 @@ package com.gurukulams.starter.security.service;
 import com.gurukulams.core.payload.Learner;
 import com.gurukulams.core.service.LearnerProfileService;
 import com.gurukulams.core.service.LearnerService;
+import com.gurukulams.starter.security.config.AppProperties;
 import com.gurukulams.starter.security.config.UserPrincipal;
+import com.gurukulams.starter.security.util.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
@@ -17,6 +22,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.sql.SQLException;
+import java.time.Duration;
 
 /**
  * The type Custom user details service.
@@ -45,16 +51,26 @@ public class CustomUserDetailsService implements UserDetailsService {
      *
      * @param alearnerService
      * @param profileService
+     * @param appProperties
+     * @param meterRegistry
      */
     public CustomUserDetailsService(final LearnerService alearnerService,
-                                final LearnerProfileService profileService) {
+                                final LearnerProfileService profileService,
+                                final AppProperties appProperties,
+                                final ObjectProvider<MeterRegistry>
+                                        meterRegistry) {
         this.learnerProfileService = profileService;
-        passwordEncoder = new BCryptPasswordEncoder();
+        passwordEncoder = new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(),
+                appProperties.getAuth().getPasswordHashQueueCapacity(),
+                Duration.ofMillis(
+                        appProperties.getAuth().getPasswordHashTimeoutMsec()),
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
         this.learnerService = alearnerService;
     }
 
     /**
-     * passwordEncoder.
+     * passwordEncoder, hashing off the request threads.
      * @return passwordEncoder
      */
     @Bean
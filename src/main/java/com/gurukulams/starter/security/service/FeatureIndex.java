@@ -0,0 +1,51 @@
+package com.gurukulams.starter.security.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Features by user, inverted from the users by feature of the
+ * configuration.
+ * <p>
+ * The index is built once at startup and is immutable, so lookups
+ * never block.
+ */
+public final class FeatureIndex {
+
+    /**
+     * Features by user.
+     */
+    private final Map<String, List<String>> featuresByUser;
+
+    /**
+     * Builds Feature Index.
+     *
+     * @param usersByFeature users by feature
+     */
+    public FeatureIndex(final Map<String, List<String>> usersByFeature) {
+        final Map<String, List<String>> index = new HashMap<>();
+        usersByFeature.forEach((feature, users) -> {
+            for (final String user : users) {
+                final List<String> userFeatures = index
+                        .computeIfAbsent(user, u -> new ArrayList<>());
+                if (!userFeatures.contains(feature)) {
+                    userFeatures.add(feature);
+                }
+            }
+        });
+        index.replaceAll((user, userFeatures) -> List.copyOf(userFeatures));
+        this.featuresByUser = Map.copyOf(index);
+    }
+
+    /**
+     * Gets the features of the user.
+     *
+     * @param userName the user
+     * @return features
+     */
+    public List<String> getFeatures(final String userName) {
+        return featuresByUser.getOrDefault(userName, List.of());
+    }
+}
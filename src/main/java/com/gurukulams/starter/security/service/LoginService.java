@@ -1,17 +1,17 @@
 package com.gurukulams.starter.security.service;
 
 import com.gurukulams.core.payload.AuthProvider;
+import com.gurukulams.core.payload.Learner;
 import com.gurukulams.core.payload.SignupRequest;
 import com.gurukulams.core.service.LearnerService;
 import com.gurukulams.starter.security.payload.AuthenticationRequest;
 import com.gurukulams.starter.security.payload.AuthenticationResponse;
-import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.sql.SQLException;
+import java.util.Optional;
 
 /**
  * The type Login service.
@@ -29,11 +29,6 @@ public class LoginService {
      */
     private final PasswordEncoder passwordEncoder;
 
-    /**
-     * AuthenticationManager instance.
-     */
-    private final AuthenticationManager authenticationManager;
-
     /**
      * TokenProvider instance.
      */
@@ -44,16 +39,13 @@ public class LoginService {
      *
      * @param aLearnerService        the a learner service
      * @param aPasswordEncoder       the a password encoder
-     * @param aAuthenticationManager the a authentication manager
-     * @param aAuthenticationService         the a token provider
+     * @param aAuthenticationService the a token provider
      */
     public LoginService(final LearnerService aLearnerService,
                         final PasswordEncoder aPasswordEncoder,
-                        final AuthenticationManager aAuthenticationManager,
                         final AuthenticationService aAuthenticationService) {
         this.learnerService = aLearnerService;
         this.passwordEncoder = aPasswordEncoder;
-        this.authenticationManager = aAuthenticationManager;
         this.authenticationService = aAuthenticationService;
     }
 
@@ -77,29 +69,26 @@ public class LoginService {
     }
 
     /**
-     * Login authentication response.
+     * Login authentication response. A new user is signed up with the
+     * password hashed once, and is not verified again; an existing user
+     * is verified once against the learner already read.
      *
      * @param authenticationRequest the authentication request
      * @return the authentication response
      */
     public AuthenticationResponse login(final AuthenticationRequest
                                     authenticationRequest) throws SQLException {
-        try {
+        final Optional<Learner> learner = learnerService.readByEmail(
+                authenticationRequest.getEmail());
+        if (learner.isEmpty()) {
+            signUp(authenticationRequest);
             return authenticationService.getAuthenticationResponse(
-                    this.authenticationManager
-                    .authenticate(
-                        new UsernamePasswordAuthenticationToken(
-                                authenticationRequest.getEmail().split("@")[0],
-                                authenticationRequest.getPassword())));
-        } catch (final BadCredentialsException credentialsException) {
-            // If New User
-            if (learnerService.readByEmail(
-                    authenticationRequest.getEmail()).isEmpty()) {
-                // Then Sign Up
-                signUp(authenticationRequest);
-                return login(authenticationRequest);
-            }
+                    authenticationRequest.getEmail().split("@")[0]);
+        }
+        if (!passwordEncoder.matches(authenticationRequest.getPassword(),
+                learner.get().password())) {
             throw new BadCredentialsException("Invalid Login Credentials");
         }
+        return authenticationService.getAuthenticationResponse(learner.get());
     }
 }
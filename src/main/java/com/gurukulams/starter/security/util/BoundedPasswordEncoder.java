@@ -0,0 +1,177 @@
+package com.gurukulams.starter.security.util;
+
+import com.gurukulams.starter.security.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Password encoder hashing on a dedicated pool sized to the CPU count,
+ * so that a burst of logins cannot hold every request thread on BCrypt.
+ * <p>
+ * Hashes wait in a bounded queue. When the queue is full, or a hash is
+ * not done within the deadline, the request is shed with
+ * {@link TooManyRequestsException} instead of piling up.
+ */
+public final class BoundedPasswordEncoder
+        implements PasswordEncoder, AutoCloseable {
+
+    /**
+     * Milliseconds in a second.
+     */
+    private static final long MILLIS_PER_SECOND = 1_000;
+
+    /**
+     * Encoder doing the hashing.
+     */
+    private final PasswordEncoder delegate;
+
+    /**
+     * Hashes waiting for a worker.
+     */
+    private final BlockingQueue<Runnable> queue;
+
+    /**
+     * Workers hashing the passwords.
+     */
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Time within which a hash is to be done, queueing included.
+     */
+    private final Duration deadline;
+
+    /**
+     * Seconds after which a shed client may retry.
+     */
+    private final long retryAfterSeconds;
+
+    /**
+     * Latency of encoding.
+     */
+    private final Timer encodeTimer;
+
+    /**
+     * Latency of matching.
+     */
+    private final Timer matchesTimer;
+
+    /**
+     * Hashes shed.
+     */
+    private final Counter rejected;
+
+    /**
+     * Builds Bounded Password Encoder.
+     *
+     * @param aDelegate      encoder doing the hashing
+     * @param queueCapacity  hashes that may wait for a worker
+     * @param aDeadline      time within which a hash is to be done
+     * @param meterRegistry  registry of the metrics
+     */
+    public BoundedPasswordEncoder(final PasswordEncoder aDelegate,
+                                  final int queueCapacity,
+                                  final Duration aDeadline,
+                                  final MeterRegistry meterRegistry) {
+        final int workers = Runtime.getRuntime().availableProcessors();
+        this.delegate = aDelegate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.executor = new ThreadPoolExecutor(workers, workers,
+                0L, TimeUnit.MILLISECONDS, queue,
+                Thread.ofPlatform().name("password-hash-", 0)
+                        .daemon(true).factory());
+        this.deadline = aDeadline;
+        this.retryAfterSeconds = Math.max(1,
+                aDeadline.toMillis() / MILLIS_PER_SECOND);
+        this.encodeTimer = Timer.builder("auth.password.hash")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.password.hash")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("auth.password.hash.rejected")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hash.queue", queue,
+                        BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(final CharSequence rawPassword) {
+        return submit(() -> encodeTimer.record(() ->
+                delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(final CharSequence rawPassword,
+                           final String encodedPassword) {
+        return submit(() -> matchesTimer.record(() ->
+                delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(final String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Hashes on the pool, within the deadline.
+     *
+     * @param hash the hashing
+     * @param <T>  type of the result
+     * @return result
+     */
+    private <T> T submit(final Callable<T> hash) {
+        final Future<T> future;
+        try {
+            future = executor.submit(hash);
+        } catch (final RejectedExecutionException e) {
+            throw shed();
+        }
+        try {
+            return future.get(deadline.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final TimeoutException e) {
+            // A cancelled hash still in the queue is skipped by its worker
+            future.cancel(false);
+            throw shed();
+        } catch (final InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Counts and builds the exception shedding a hash.
+     *
+     * @return exception
+     */
+    private TooManyRequestsException shed() {
+        rejected.increment();
+        return new TooManyRequestsException(
+                "Too many logins, please retry shortly", retryAfterSeconds);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
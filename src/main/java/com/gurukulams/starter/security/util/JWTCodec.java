@@ -0,0 +1,190 @@
+package com.gurukulams.starter.security.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.gurukulams.starter.security.config.AppProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Thread safe JWT codec built once from the auth properties.
+ * <p>
+ * Holds the signing key and parser, and remembers verified claims
+ * of a compact token until it expires so that repeated requests
+ * with the same token skip signature verification.
+ */
+public final class JWTCodec {
+
+    /**
+     * Maximum number of verified tokens remembered.
+     */
+    private static final long MAXIMUM_VERIFIED_TOKENS = 10_000;
+
+    /**
+     * Signing Key.
+     */
+    private final SecretKey signInKey;
+
+    /**
+     * Parser verifying with signing key.
+     */
+    private final JwtParser jwtParser;
+
+    /**
+     * Token Expiration.
+     */
+    private final long tokenExpirationMsec;
+
+    /**
+     * Verified claims by compact token.
+     */
+    private final Cache<String, Claims> verifiedClaims;
+
+    /**
+     * Builds JWT Codec.
+     *
+     * @param auth the auth properties
+     */
+    public JWTCodec(final AppProperties.Auth auth) {
+        this.signInKey = Keys.hmacShaKeyFor(
+                Decoders.BASE64.decode(auth.getTokenSecret()));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signInKey)
+                .build();
+        this.tokenExpirationMsec = auth.getTokenExpirationMsec();
+        this.verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_VERIFIED_TOKENS)
+                .expireAfter(Expiry.creating((String token, Claims claims) ->
+                        Duration.ofMillis(claims.getExpiration().getTime()
+                                - System.currentTimeMillis())))
+                .build();
+    }
+
+    /**
+     * Get Compact JWT.
+     *
+     * @param userName
+     * @return jwt
+     */
+    public String compact(final String userName) {
+        return compact(userName, tokenExpirationMsec, Map.of());
+    }
+
+    /**
+     * Get Compact JWT with a unique id (jti) and additional claims.
+     *
+     * @param userName
+     * @param expirationMsec validity of the token
+     * @param claims additional claims
+     * @return jwt
+     */
+    public String compact(final String userName,
+                          final long expirationMsec,
+                          final Map<String, ?> claims) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .subject(userName)
+                .claims(claims)
+                .issuedAt(new Date(now))
+                .expiration(new Date(now
+                        + expirationMsec))
+                .signWith(signInKey,
+                        Jwts.SIG.HS256).compact();
+    }
+
+    /**
+     * Gets verified claims of an unexpired token.
+     *
+     * @param jwtToken
+     * @return claims
+     */
+    public Claims getClaims(final String jwtToken) {
+        Claims claims = verifiedClaims.getIfPresent(jwtToken);
+        if (claims == null) {
+            claims = jwtParser.parseSignedClaims(jwtToken).getPayload();
+            verifiedClaims.put(jwtToken, claims);
+        }
+        return claims;
+    }
+
+    /**
+     * Gets verified claims. Expired claims are returned
+     * only for logout and refresh requests.
+     *
+     * @param requestURI
+     * @param jwtToken
+     * @return claims
+     */
+    public Claims getClaims(final String requestURI,
+                            final String jwtToken) {
+        if (acceptsExpired(requestURI)) {
+            return getClaimsIgnoringExpiry(jwtToken);
+        }
+        return getClaims(jwtToken);
+    }
+
+    /**
+     * Checks whether expired tokens are accepted for the request,
+     * as they are for logout and refresh.
+     *
+     * @param requestURI
+     * @return true if expired tokens are accepted
+     */
+    public static boolean acceptsExpired(final String requestURI) {
+        return requestURI.equals("/api/auth/logout")
+                || requestURI.equals("/api/auth/refresh");
+    }
+
+    /**
+     * Gets verified claims, even when the token is expired.
+     *
+     * @param jwtToken
+     * @return claims
+     */
+    public Claims getClaimsIgnoringExpiry(final String jwtToken) {
+        try {
+            return getClaims(jwtToken);
+        } catch (final ExpiredJwtException ex) {
+            return ex.getClaims();
+        }
+    }
+
+    /**
+     * Gets user name from token.
+     *
+     * @param requestURI
+     * @param jwtToken
+     * @return user name
+     */
+    public String getUserName(final String requestURI,
+                              final String jwtToken) {
+        return getClaims(requestURI, jwtToken).getSubject();
+    }
+
+    /**
+     * isExpired.
+     *
+     * @param jwtToken the auth token
+     * @return true if expired
+     */
+    public boolean isExpired(final String jwtToken) {
+        try {
+            getClaims(jwtToken);
+        } catch (final ExpiredJwtException ex) {
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,164 @@
+package com.gurukulams.starter.store;
+
+import com.gurukulams.starter.exception.StoreUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounds the calls into a store, so that a slow store holds at most
+ * its own share of the request threads.
+ * <p>
+ * A call waits at most the maximum wait to enter, and is rejected
+ * otherwise. Once in, each of its statements is bounded by the call
+ * timeout of the store (see {@link QueryTimeoutDataSource}). Active,
+ * waiting and rejected calls are metered by store.
+ */
+public final class Bulkhead {
+
+    /**
+     * Seconds after which a rejected client may retry.
+     */
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    /**
+     * The store.
+     */
+    private final Store store;
+
+    /**
+     * Permits, one per call in.
+     */
+    private final Semaphore permits;
+
+    /**
+     * Maximum concurrent calls.
+     */
+    private final int maxConcurrent;
+
+    /**
+     * Time a call may wait to enter.
+     */
+    private final Duration maxWait;
+
+    /**
+     * Calls rejected.
+     */
+    private final Counter rejected;
+
+    /**
+     * Time calls spent inside.
+     */
+    private final Timer duration;
+
+    /**
+     * Builds Bulkhead.
+     *
+     * @param aStore         the store
+     * @param aMaxConcurrent maximum concurrent calls
+     * @param aMaxWait       time a call may wait to enter
+     * @param meterRegistry  registry of the metrics
+     */
+    public Bulkhead(final Store aStore,
+                    final int aMaxConcurrent,
+                    final Duration aMaxWait,
+                    final MeterRegistry meterRegistry) {
+        this.store = aStore;
+        this.permits = new Semaphore(aMaxConcurrent, true);
+        this.maxConcurrent = aMaxConcurrent;
+        this.maxWait = aMaxWait;
+        final String tag = aStore.name();
+        Gauge.builder("store.bulkhead.active", this, Bulkhead::getActive)
+                .tag("store", tag)
+                .register(meterRegistry);
+        Gauge.builder("store.bulkhead.waiting", permits,
+                        Semaphore::getQueueLength)
+                .tag("store", tag)
+                .register(meterRegistry);
+        Gauge.builder("store.bulkhead.limit", () -> maxConcurrent)
+                .tag("store", tag)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("store.bulkhead.rejected")
+                .tag("store", tag)
+                .register(meterRegistry);
+        this.duration = Timer.builder("store.bulkhead.duration")
+                .tag("store", tag)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs the call inside the bulkhead.
+     *
+     * @param call the call
+     * @param <T>  type of the result
+     * @return result of the call
+     * @throws Exception from the call
+     */
+    public <T> T call(final Callable<T> call) throws Exception {
+        final long enteredAt = enter();
+        try {
+            return call.call();
+        } finally {
+            exit(enteredAt);
+        }
+    }
+
+    /**
+     * Enters, waiting at most the maximum wait. A call that entered
+     * is to {@link #exit(long)}.
+     *
+     * @return nano time at which the call entered
+     * @throws StoreUnavailableException if not entered
+     */
+    public long enter() {
+        if (!tryEnter()) {
+            throw new StoreUnavailableException(
+                    "Too many requests to " + store, RETRY_AFTER_SECONDS);
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Enters, waiting at most the maximum wait.
+     *
+     * @return true if entered
+     */
+    private boolean tryEnter() {
+        try {
+            if (permits.tryAcquire(maxWait.toMillis(),
+                    TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejected.increment();
+        return false;
+    }
+
+    /**
+     * Exits a call that entered.
+     *
+     * @param enteredAt nano time at which the call entered
+     */
+    public void exit(final long enteredAt) {
+        permits.release();
+        duration.record(System.nanoTime() - enteredAt,
+                TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets the calls inside.
+     *
+     * @return active
+     */
+    public int getActive() {
+        return maxConcurrent - permits.availablePermits();
+    }
+}
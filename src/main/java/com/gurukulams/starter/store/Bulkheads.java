@@ -0,0 +1,35 @@
+package com.gurukulams.starter.store;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The bulkhead of each store, for the services that call a store
+ * outside of a request to its APIs.
+ */
+public final class Bulkheads {
+
+    /**
+     * Bulkhead by store.
+     */
+    private final Map<Store, Bulkhead> bulkheads;
+
+    /**
+     * Builds Bulkheads.
+     *
+     * @param theBulkheads bulkhead by store, of every store
+     */
+    public Bulkheads(final Map<Store, Bulkhead> theBulkheads) {
+        this.bulkheads = new EnumMap<>(theBulkheads);
+    }
+
+    /**
+     * Gets the bulkhead of the store.
+     *
+     * @param store the store
+     * @return bulkhead
+     */
+    public Bulkhead get(final Store store) {
+        return bulkheads.get(store);
+    }
+}
@@ -0,0 +1,203 @@
+package com.gurukulams.starter.store;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+/**
+ * DataSource letting only so many connections out at a time.
+ * <p>
+ * With requests on virtual threads nothing caps the callers, so they
+ * wait here, in fair order and for a bounded time, instead of all
+ * stampeding the pool. A permit is held from getConnection till the
+ * connection is closed.
+ */
+public final class ConcurrencyLimitingDataSource
+        implements DataSource, AutoCloseable {
+
+    /**
+     * The limited DataSource.
+     */
+    private final DataSource dataSource;
+
+    /**
+     * Permits, one per connection out.
+     */
+    private final Semaphore permits;
+
+    /**
+     * Time to wait for a permit.
+     */
+    private final Duration timeout;
+
+    /**
+     * Builds Concurrency Limiting DataSource.
+     *
+     * @param aDataSource    the limited DataSource
+     * @param maxConcurrency connections out at a time
+     * @param aTimeout       time to wait for a permit
+     */
+    public ConcurrencyLimitingDataSource(final DataSource aDataSource,
+                                         final int maxConcurrency,
+                                         final Duration aTimeout) {
+        this.dataSource = aDataSource;
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.timeout = aTimeout;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return limited(dataSource.getConnection());
+        } catch (final SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(final String username,
+                                    final String password)
+            throws SQLException {
+        acquire();
+        try {
+            return limited(dataSource.getConnection(username, password));
+        } catch (final SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the number of callers waiting for a permit.
+     *
+     * @return waiting
+     */
+    public int getWaiting() {
+        return permits.getQueueLength();
+    }
+
+    /**
+     * Acquires a permit, within the timeout.
+     *
+     * @throws SQLException if not acquired
+     */
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(timeout.toMillis(),
+                    TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "No connection available within " + timeout);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException(
+                    "Interrupted while waiting for a connection", e);
+        }
+    }
+
+    /**
+     * Wraps the connection to release its permit on close.
+     *
+     * @param connection the connection
+     * @return connection
+     */
+    private Connection limited(final Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class},
+                new PermitConnection(connection, permits,
+                        new AtomicBoolean()));
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return dataSource.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(final PrintWriter out) throws SQLException {
+        dataSource.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(final int seconds) throws SQLException {
+        dataSource.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return dataSource.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return dataSource.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> iface) throws SQLException {
+        return iface.isInstance(dataSource)
+                ? iface.cast(dataSource) : dataSource.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) throws SQLException {
+        return iface.isInstance(dataSource)
+                || dataSource.isWrapperFor(iface);
+    }
+
+    /**
+     * Closes the limited DataSource, if it can be.
+     *
+     * @throws Exception from the limited DataSource
+     */
+    @Override
+    public void close() throws Exception {
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    /**
+     * Delegates to a connection, releasing the permit on its first close.
+     *
+     * @param connection the connection
+     * @param permits    the permits
+     * @param released   whether the permit is released
+     */
+    private record PermitConnection(Connection connection,
+                                    Semaphore permits,
+                                    AtomicBoolean released)
+            implements InvocationHandler {
+
+        @Override
+        public Object invoke(final Object proxy,
+                             final Method method,
+                             final Object[] args) throws Throwable {
+            try {
+                return method.invoke(connection, args);
+            } catch (final InvocationTargetException e) {
+                throw e.getCause();
+            } finally {
+                if (method.getName().equals("close")
+                        && released.compareAndSet(false, true)) {
+                    permits.release();
+                }
+            }
+        }
+    }
+}
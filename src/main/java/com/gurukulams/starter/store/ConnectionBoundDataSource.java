@@ -0,0 +1,207 @@
+package com.gurukulams.starter.store;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.logging.Logger;
+
+/**
+ * DataSource handing out a single connection, leaving its close and
+ * transaction boundaries to the owner of the connection.
+ * <p>
+ * Lets services that take a DataSource join a transaction they do not
+ * control. A service built once on {@link #current()} joins whichever
+ * connection is bound to the calling thread by {@link #bind}.
+ */
+public final class ConnectionBoundDataSource implements DataSource {
+
+    /**
+     * Connection bound to the calling thread.
+     */
+    private static final ThreadLocal<Connection> BOUND =
+            new ThreadLocal<>();
+
+    /**
+     * DataSource handing out the connection bound to the calling thread.
+     */
+    private static final DataSource CURRENT =
+            new ConnectionBoundDataSource(null);
+
+    /**
+     * The bound connection, null to use the one bound to the thread.
+     */
+    private final Connection connection;
+
+    /**
+     * Builds Connection Bound DataSource.
+     *
+     * @param aConnection the bound connection
+     */
+    private ConnectionBoundDataSource(final Connection aConnection) {
+        this.connection = aConnection;
+    }
+
+    /**
+     * Binds the connection.
+     *
+     * @param connection the connection
+     * @return dataSource
+     */
+    public static DataSource of(final Connection connection) {
+        return new ConnectionBoundDataSource(bound(connection));
+    }
+
+    /**
+     * Gets the DataSource handing out the connection bound to the
+     * calling thread.
+     *
+     * @return dataSource
+     */
+    public static DataSource current() {
+        return CURRENT;
+    }
+
+    /**
+     * Binds the connection to the calling thread while the work runs.
+     *
+     * @param connection the connection
+     * @param work       the work
+     * @param <T>        type of the result
+     * @return result of the work
+     * @throws SQLException from the work
+     */
+    public static <T> T bind(final Connection connection,
+                             final Work<T> work) throws SQLException {
+        final Connection previous = BOUND.get();
+        BOUND.set(bound(connection));
+        try {
+            return work.run();
+        } finally {
+            if (previous == null) {
+                BOUND.remove();
+            } else {
+                BOUND.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Wraps the connection to ignore close and transaction control.
+     *
+     * @param connection the connection
+     * @return connection
+     */
+    private static Connection bound(final Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class},
+                new BoundConnection(connection));
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (connection != null) {
+            return connection;
+        }
+        final Connection current = BOUND.get();
+        if (current == null) {
+            throw new SQLException("No connection bound to this thread");
+        }
+        return current;
+    }
+
+    @Override
+    public Connection getConnection(final String username,
+                                    final String password)
+            throws SQLException {
+        return getConnection();
+    }
+
+    @Override
+    public PrintWriter getLogWriter() {
+        return null;
+    }
+
+    @Override
+    public void setLogWriter(final PrintWriter out) {
+    }
+
+    @Override
+    public void setLoginTimeout(final int seconds) {
+    }
+
+    @Override
+    public int getLoginTimeout() {
+        return 0;
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> iface) throws SQLException {
+        throw new SQLException("Not a wrapper of " + iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) {
+        return false;
+    }
+
+    /**
+     * Work done on a bound connection.
+     *
+     * @param <T> type of the result
+     */
+    @FunctionalInterface
+    public interface Work<T> {
+
+        /**
+         * Does the work.
+         *
+         * @return result
+         * @throws SQLException if the work failed
+         */
+        T run() throws SQLException;
+    }
+
+    /**
+     * Delegates to a connection, ignoring close and transaction control.
+     *
+     * @param connection the connection
+     */
+    private record BoundConnection(Connection connection)
+            implements InvocationHandler {
+
+        @Override
+        public Object invoke(final Object proxy,
+                             final Method method,
+                             final Object[] args) throws Throwable {
+            final boolean noArgs = args == null || args.length == 0;
+            switch (method.getName()) {
+                case "close", "setAutoCommit":
+                    return null;
+                case "commit", "rollback":
+                    if (noArgs) {
+                        return null;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(connection, args);
+            } catch (final InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.gurukulams.starter.store;
+
+import org.flywaydb.core.Flyway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Migrates the stores concurrently, off the startup thread.
+ * <p>
+ * A store is skipped only when it validates and has nothing pending.
+ * Otherwise it is migrated, which applies what is pending or fails on
+ * what does not validate, such as a changed checksum. As a lifecycle
+ * it holds back the web server, and so readiness, till all the
+ * migrations complete. Deferred stores do not hold back the web
+ * server; they are migrated once the application is ready, and report
+ * their {@link State} meanwhile.
+ */
+public final class MigrationCoordinator implements SmartLifecycle {
+
+    /**
+     * Logger.
+     */
+    private final Logger logger =
+            LoggerFactory.getLogger(MigrationCoordinator.class);
+
+    /**
+     * Migrations by store.
+     */
+    private final Map<Store, CompletableFuture<Void>> migrations =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Flyways of the stores migrated once the application is ready.
+     */
+    private final Map<Store, Flyway[]> deferred =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Executor running the migrations.
+     */
+    private final ExecutorService executor = Executors
+            .newThreadPerTaskExecutor(Thread.ofVirtual()
+                    .name("migration-", 0).factory());
+
+    /**
+     * Whether this lifecycle is running.
+     */
+    private volatile boolean running;
+
+    /**
+     * Starts migrating the store.
+     *
+     * @param store   the store
+     * @param flyways flyways of the store, migrated in order
+     * @return migration
+     */
+    public CompletableFuture<Void> migrate(final Store store,
+                                           final Flyway... flyways) {
+        return migrations.computeIfAbsent(store, s ->
+                CompletableFuture.runAsync(() -> {
+                    for (final Flyway flyway : flyways) {
+                        run(s, flyway);
+                    }
+                }, executor));
+    }
+
+    /**
+     * Registers the store to be migrated once the application is ready.
+     *
+     * @param store   the store
+     * @param flyways flyways of the store, migrated in order
+     */
+    public void defer(final Store store, final Flyway... flyways) {
+        deferred.put(store, flyways);
+    }
+
+    /**
+     * Starts migrating the deferred stores.
+     */
+    public void startDeferred() {
+        deferred.forEach(this::migrate);
+    }
+
+    /**
+     * Gets the state of the store. A store not registered here
+     * needs no migration, and so is ready.
+     *
+     * @param store the store
+     * @return state
+     */
+    public State getState(final Store store) {
+        final CompletableFuture<Void> migration = migrations.get(store);
+        if (migration == null) {
+            return deferred.containsKey(store) ? State.PENDING : State.READY;
+        }
+        if (!migration.isDone()) {
+            return State.MIGRATING;
+        }
+        return migration.isCompletedExceptionally()
+                ? State.FAILED : State.READY;
+    }
+
+    /**
+     * Checks whether the store is ready to be used.
+     *
+     * @param store the store
+     * @return true if ready
+     */
+    public boolean isReady(final Store store) {
+        return getState(store) == State.READY;
+    }
+
+    /**
+     * Waits for the store to be migrated.
+     *
+     * @param store the store
+     */
+    public void await(final Store store) {
+        final CompletableFuture<Void> migration = migrations.get(store);
+        if (migration != null) {
+            try {
+                migration.join();
+            } catch (final CompletionException e) {
+                throw new IllegalStateException(
+                        "Migration of " + store + " failed", e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Runs the migration.
+     *
+     * @param store  the store
+     * @param flyway flyway of the store
+     */
+    private void run(final Store store, final Flyway flyway) {
+        final long start = System.currentTimeMillis();
+        final String table = flyway.getConfiguration().getTable();
+        if (flyway.validateWithResult().validationSuccessful
+                && flyway.info().pending().length == 0) {
+            logger.info("{} ({}) is up to date", store, table);
+        } else {
+            flyway.migrate();
+            logger.info("{} ({}) migrated in {} ms", store, table,
+                    System.currentTimeMillis() - start);
+        }
+    }
+
+    @Override
+    public void start() {
+        migrations.keySet().forEach(this::await);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        executor.shutdownNow();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Starts before the web server.
+     *
+     * @return phase
+     */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    /**
+     * State of a store.
+     */
+    public enum State {
+        /**
+         * Deferred, and not yet started.
+         */
+        PENDING,
+        /**
+         * Being migrated.
+         */
+        MIGRATING,
+        /**
+         * Ready to be used.
+         */
+        READY,
+        /**
+         * Migration failed.
+         */
+        FAILED
+    }
+}
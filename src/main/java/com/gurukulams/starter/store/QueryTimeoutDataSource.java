@@ -0,0 +1,177 @@
+package com.gurukulams.starter.store;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.logging.Logger;
+
+/**
+ * DataSource whose statements are cancelled by the driver once they
+ * run longer than the timeout.
+ * <p>
+ * A bulkhead bounds only the wait to enter; this bounds the time a call
+ * holds its place, and its connection, on a stuck query. JDBC counts
+ * query timeouts in whole seconds, so the timeout is rounded up.
+ */
+public final class QueryTimeoutDataSource
+        implements DataSource, AutoCloseable {
+
+    /**
+     * Milliseconds in a second.
+     */
+    private static final long MILLIS_PER_SECOND = 1_000;
+
+    /**
+     * The bounded DataSource.
+     */
+    private final DataSource dataSource;
+
+    /**
+     * Query timeout in seconds.
+     */
+    private final int timeoutSeconds;
+
+    /**
+     * Builds Query Timeout DataSource.
+     *
+     * @param aDataSource the bounded DataSource
+     * @param aTimeout    time a statement may run
+     */
+    public QueryTimeoutDataSource(final DataSource aDataSource,
+                                  final Duration aTimeout) {
+        this.dataSource = aDataSource;
+        this.timeoutSeconds = (int) Math.max(1,
+                (aTimeout.toMillis() + MILLIS_PER_SECOND - 1)
+                        / MILLIS_PER_SECOND);
+    }
+
+    /**
+     * Gets the DataSource under the query timeout, if any, for work such
+     * as migrations that is not bound by it.
+     *
+     * @param dataSource the DataSource
+     * @return unbounded DataSource
+     * @throws SQLException if it could not be unwrapped
+     */
+    public static DataSource unbounded(final DataSource dataSource)
+            throws SQLException {
+        if (dataSource instanceof QueryTimeoutDataSource bounded) {
+            return bounded.dataSource;
+        }
+        if (dataSource.isWrapperFor(QueryTimeoutDataSource.class)) {
+            return dataSource.unwrap(QueryTimeoutDataSource.class)
+                    .dataSource;
+        }
+        return dataSource;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return bounded(dataSource.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(final String username,
+                                    final String password)
+            throws SQLException {
+        return bounded(dataSource.getConnection(username, password));
+    }
+
+    /**
+     * Wraps the connection to set the timeout on its statements.
+     *
+     * @param connection the connection
+     * @return connection
+     */
+    private Connection bounded(final Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class},
+                new TimeoutConnection(connection, timeoutSeconds));
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return dataSource.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(final PrintWriter out) throws SQLException {
+        dataSource.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(final int seconds) throws SQLException {
+        dataSource.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return dataSource.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return dataSource.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> iface) throws SQLException {
+        return iface.isInstance(dataSource)
+                ? iface.cast(dataSource) : dataSource.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) throws SQLException {
+        return iface.isInstance(dataSource)
+                || dataSource.isWrapperFor(iface);
+    }
+
+    /**
+     * Closes the bounded DataSource, if it can be.
+     *
+     * @throws Exception from the bounded DataSource
+     */
+    @Override
+    public void close() throws Exception {
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    /**
+     * Delegates to a connection, setting the timeout on every statement
+     * it creates.
+     *
+     * @param connection     the connection
+     * @param timeoutSeconds query timeout in seconds
+     */
+    private record TimeoutConnection(Connection connection,
+                                     int timeoutSeconds)
+            implements InvocationHandler {
+
+        @Override
+        public Object invoke(final Object proxy,
+                             final Method method,
+                             final Object[] args) throws Throwable {
+            final Object result;
+            try {
+                result = method.invoke(connection, args);
+            } catch (final InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if (result instanceof Statement statement) {
+                statement.setQueryTimeout(timeoutSeconds);
+            }
+            return result;
+        }
+    }
+}
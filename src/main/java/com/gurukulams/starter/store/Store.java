@@ -0,0 +1,19 @@
+package com.gurukulams.starter.store;
+
+/**
+ * Databases of the application.
+ */
+public enum Store {
+    /**
+     * Learners, profiles and orgs on the primary DataSource.
+     */
+    CORE,
+    /**
+     * Questions and answers.
+     */
+    QUESTION_BANK,
+    /**
+     * Events.
+     */
+    EVENTS
+}
@@ -0,0 +1,77 @@
+package com.gurukulams.starter.store;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.Map;
+
+/**
+ * Lets a request to a store in only through the bulkhead of the store,
+ * and rejects it fast when the bulkhead is full.
+ * <p>
+ * A streamed response keeps its place till the stream completes, on
+ * the async dispatch that follows.
+ */
+public final class StoreBulkheadInterceptor
+        implements AsyncHandlerInterceptor {
+
+    /**
+     * Request attribute holding the bulkhead entered.
+     */
+    private static final String BULKHEAD =
+            StoreBulkheadInterceptor.class.getName() + ".bulkhead";
+
+    /**
+     * Request attribute holding the nano time the bulkhead was entered.
+     */
+    private static final String ENTERED_AT =
+            StoreBulkheadInterceptor.class.getName() + ".enteredAt";
+
+    /**
+     * Bulkhead by the path prefix of the APIs of its store.
+     */
+    private final Map<String, Bulkhead> bulkheads;
+
+    /**
+     * Builds Store Bulkhead Interceptor.
+     *
+     * @param theBulkheads bulkhead by the path prefix of its APIs
+     */
+    public StoreBulkheadInterceptor(final Map<String, Bulkhead> theBulkheads) {
+        this.bulkheads = Map.copyOf(theBulkheads);
+    }
+
+    @Override
+    public boolean preHandle(final HttpServletRequest request,
+                             final HttpServletResponse response,
+                             final Object handler) {
+        if (request.getAttribute(BULKHEAD) != null) {
+            // Async dispatch of a request already in
+            return true;
+        }
+        final String uri = request.getRequestURI();
+        for (final Map.Entry<String, Bulkhead> entry
+                : bulkheads.entrySet()) {
+            if (uri.startsWith(entry.getKey())) {
+                final long enteredAt = entry.getValue().enter();
+                request.setAttribute(BULKHEAD, entry.getValue());
+                request.setAttribute(ENTERED_AT, enteredAt);
+                break;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(final HttpServletRequest request,
+                                final HttpServletResponse response,
+                                final Object handler,
+                                final Exception ex) {
+        final Bulkhead bulkhead = (Bulkhead) request.getAttribute(BULKHEAD);
+        if (bulkhead != null) {
+            request.removeAttribute(BULKHEAD);
+            bulkhead.exit((Long) request.getAttribute(ENTERED_AT));
+        }
+    }
+}
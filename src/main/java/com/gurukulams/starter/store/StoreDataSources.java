@@ -0,0 +1,94 @@
+package com.gurukulams.starter.store;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flywaydb.core.Flyway;
+
+/**
+ * Opens the pooled DataSource of a store, and hands its migration to
+ * the coordinator.
+ * <p>
+ * When the stores are deferred, the pool opens on its first
+ * connection, by the migration that runs once the application is
+ * ready; otherwise the store is migrated right away.
+ */
+public final class StoreDataSources {
+
+    /**
+     * Registry the pools report to, null if there is none.
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Flyway whose configuration the migrations of the stores share.
+     */
+    private final Flyway flyway;
+
+    /**
+     * Coordinator of the migrations.
+     */
+    private final MigrationCoordinator migrationCoordinator;
+
+    /**
+     * Whether the stores are migrated after the application is ready.
+     */
+    private final boolean deferred;
+
+    /**
+     * Builds Store DataSources.
+     *
+     * @param aMeterRegistry        registry of the pools, or null
+     * @param aFlyway               the shared Flyway configuration
+     * @param aMigrationCoordinator the coordinator
+     * @param isDeferred            whether the stores are deferred
+     */
+    public StoreDataSources(final MeterRegistry aMeterRegistry,
+                            final Flyway aFlyway,
+                            final MigrationCoordinator aMigrationCoordinator,
+                            final boolean isDeferred) {
+        this.meterRegistry = aMeterRegistry;
+        this.flyway = aFlyway;
+        this.migrationCoordinator = aMigrationCoordinator;
+        this.deferred = isDeferred;
+    }
+
+    /**
+     * Opens the DataSource of the store, and migrates it, or defers its
+     * migration, with the scripts at the locations.
+     *
+     * @param store        the store
+     * @param hikariConfig pool settings of the store
+     * @param locations    locations of its migration scripts
+     * @return dataSource
+     */
+    public HikariDataSource open(final Store store,
+                                 final HikariConfig hikariConfig,
+                                 final String... locations) {
+        if (meterRegistry != null) {
+            hikariConfig.setMetricsTrackerFactory(
+                    new MicrometerMetricsTrackerFactory(meterRegistry));
+        }
+        final HikariDataSource ds;
+        if (deferred) {
+            // The pool opens on its first connection, by the migration
+            ds = new HikariDataSource();
+            hikariConfig.copyStateTo(ds);
+        } else {
+            ds = new HikariDataSource(hikariConfig);
+        }
+
+        final Flyway storeFlyway = Flyway.configure()
+                .configuration(flyway.getConfiguration())
+                .dataSource(ds)
+                .locations(locations)
+                .load();
+        if (deferred) {
+            migrationCoordinator.defer(store, storeFlyway);
+        } else {
+            migrationCoordinator.migrate(store, storeFlyway);
+        }
+        return ds;
+    }
+}
@@ -0,0 +1,49 @@
+package com.gurukulams.starter.store;
+
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.HealthIndicator;
+import org.springframework.boot.health.contributor.Status;
+
+/**
+ * Reports the state of every store.
+ * <p>
+ * Out of service till every store is ready, so that readiness waits
+ * for the deferred stores as well; down if any store failed to migrate.
+ */
+public final class StoreHealthIndicator implements HealthIndicator {
+
+    /**
+     * Coordinator knowing the state of the stores.
+     */
+    private final MigrationCoordinator migrationCoordinator;
+
+    /**
+     * Builds Store Health Indicator.
+     *
+     * @param aMigrationCoordinator the coordinator
+     */
+    public StoreHealthIndicator(
+            final MigrationCoordinator aMigrationCoordinator) {
+        this.migrationCoordinator = aMigrationCoordinator;
+    }
+
+    @Override
+    public Health health() {
+        final Health.Builder builder = Health.up();
+        boolean ready = true;
+        boolean failed = false;
+        for (final Store store : Store.values()) {
+            final MigrationCoordinator.State state =
+                    migrationCoordinator.getState(store);
+            builder.withDetail(store.name(), state);
+            ready = ready && state == MigrationCoordinator.State.READY;
+            failed = failed || state == MigrationCoordinator.State.FAILED;
+        }
+        if (failed) {
+            builder.status(Status.DOWN);
+        } else if (!ready) {
+            builder.status(Status.OUT_OF_SERVICE);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,59 @@
+package com.gurukulams.starter.store;
+
+import com.gurukulams.starter.exception.StoreUnavailableException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Map;
+
+/**
+ * Rejects requests to a store that is not ready yet, before they reach
+ * the controller and wait on a pool that is still being migrated.
+ */
+public final class StoreReadinessInterceptor implements HandlerInterceptor {
+
+    /**
+     * Seconds after which the client may retry.
+     */
+    private static final long RETRY_AFTER_SECONDS = 5;
+
+    /**
+     * Coordinator knowing the state of the stores.
+     */
+    private final MigrationCoordinator migrationCoordinator;
+
+    /**
+     * Store by the path prefix of its APIs.
+     */
+    private final Map<String, Store> stores;
+
+    /**
+     * Builds Store Readiness Interceptor.
+     *
+     * @param aMigrationCoordinator the coordinator
+     * @param theStores store by the path prefix of its APIs
+     */
+    public StoreReadinessInterceptor(
+            final MigrationCoordinator aMigrationCoordinator,
+            final Map<String, Store> theStores) {
+        this.migrationCoordinator = aMigrationCoordinator;
+        this.stores = Map.copyOf(theStores);
+    }
+
+    @Override
+    public boolean preHandle(final HttpServletRequest request,
+                             final HttpServletResponse response,
+                             final Object handler) {
+        final String uri = request.getRequestURI();
+        for (final Map.Entry<String, Store> entry : stores.entrySet()) {
+            if (uri.startsWith(entry.getKey())
+                    && !migrationCoordinator.isReady(entry.getValue())) {
+                throw new StoreUnavailableException(
+                        entry.getValue() + " is not ready yet",
+                        RETRY_AFTER_SECONDS);
+            }
+        }
+        return true;
+    }
+}
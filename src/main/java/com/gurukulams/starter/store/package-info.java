@@ -0,0 +1,4 @@
+/**
+ * Stores (databases) of the application and their lifecycle.
+ */
+package com.gurukulams.starter.store;
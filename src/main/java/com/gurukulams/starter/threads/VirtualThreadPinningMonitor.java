@@ -0,0 +1,112 @@
+package com.gurukulams.starter.threads;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads pinned to their carrier, from the
+ * {@code jdk.VirtualThreadPinned} JFR event.
+ * <p>
+ * A virtual thread blocking while pinned holds its carrier, so enough
+ * of them starve every request. Each pinning beyond the threshold is
+ * timed and logged with the frames it happened in.
+ */
+public final class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    /**
+     * JFR event of a pinned virtual thread.
+     */
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+
+    /**
+     * Frames logged of a pinning.
+     */
+    private static final int FRAMES = 8;
+
+    /**
+     * Logger.
+     */
+    private final Logger logger =
+            LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    /**
+     * Pinnings reported beyond this.
+     */
+    private final Duration threshold;
+
+    /**
+     * Time pinned.
+     */
+    private final Timer pinned;
+
+    /**
+     * Stream of the events, while running.
+     */
+    private volatile RecordingStream recordingStream;
+
+    /**
+     * Builds Virtual Thread Pinning Monitor.
+     *
+     * @param aThreshold    pinnings reported beyond this
+     * @param meterRegistry registry of the metrics
+     */
+    public VirtualThreadPinningMonitor(final Duration aThreshold,
+                                       final MeterRegistry meterRegistry) {
+        this.threshold = aThreshold;
+        this.pinned = Timer.builder("threads.virtual.pinned")
+                .description("Time virtual threads were pinned")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        final RecordingStream stream = new RecordingStream();
+        stream.enable(EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(EVENT, this::report);
+        stream.startAsync();
+        recordingStream = stream;
+    }
+
+    /**
+     * Reports a pinning.
+     *
+     * @param event the event
+     */
+    private void report(final RecordedEvent event) {
+        pinned.record(event.getDuration());
+        final List<RecordedFrame> frames = event.getStackTrace() == null
+                ? List.of() : event.getStackTrace().getFrames();
+        logger.warn("Virtual thread pinned for {} ms at {}",
+                event.getDuration().toMillis(),
+                frames.stream()
+                        .limit(FRAMES)
+                        .map(frame -> frame.getMethod().getType().getName()
+                                + "." + frame.getMethod().getName()
+                                + ":" + frame.getLineNumber())
+                        .collect(Collectors.joining(" <- ")));
+    }
+
+    @Override
+    public void stop() {
+        final RecordingStream stream = recordingStream;
+        recordingStream = null;
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+}
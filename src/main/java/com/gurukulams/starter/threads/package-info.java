@@ -0,0 +1,4 @@
+/**
+ * Threads serving the requests and their diagnostics.
+ */
+package com.gurukulams.starter.threads;
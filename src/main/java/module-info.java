@@ -22,6 +22,7 @@ module gurukulams.engine {
     requires org.apache.logging.log4j;
     requires spring.webmvc;
     requires flyway.core;
+    requires spring.boot.flyway;
     requires org.apache.tomcat.embed.core;
     requires gurukulams.notebook;
     requires com.fasterxml.jackson.databind;
@@ -33,6 +34,12 @@ module gurukulams.engine {
     requires tools.jackson.core;
     requires tools.jackson.databind;
     requires org.jspecify;
+    requires com.github.benmanes.caffeine;
+    requires java.sql;
+    requires com.zaxxer.hikari;
+    requires micrometer.core;
+    requires spring.boot.health;
+    requires jdk.jfr;
 
     opens com.gurukulams;
     opens com.gurukulams.starter.config;
@@ -45,8 +52,11 @@ module gurukulams.engine {
     opens com.gurukulams.starter.security.payload;
     opens com.gurukulams.starter.exception;
     opens com.gurukulams.component;
+    opens com.gurukulams.starter.store;
+    opens com.gurukulams.payload;
 
     exports com.gurukulams.component;
+    exports com.gurukulams.payload;
     exports com.gurukulams.starter.security.service;
     exports com.gurukulams.starter.security.payload;
     exports com.gurukulams.starter.exception;
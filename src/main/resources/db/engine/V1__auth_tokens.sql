@@ -0,0 +1,7 @@
+CREATE TABLE auth_tokens (
+    token VARCHAR(255) PRIMARY KEY,
+    token_value VARCHAR(4000) NOT NULL,
+    expires_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX auth_tokens_expires_at ON auth_tokens(expires_at);
@@ -0,0 +1,5 @@
+CREATE TABLE seed_checksums (
+    seed VARCHAR(255) PRIMARY KEY,
+    checksum VARCHAR(64) NOT NULL,
+    applied_at TIMESTAMP NOT NULL
+);
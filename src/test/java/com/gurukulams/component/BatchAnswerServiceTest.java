@@ -0,0 +1,82 @@
+package com.gurukulams.component;
+
+import com.gurukulams.payload.AnswerRequest;
+import com.gurukulams.payload.AnswerResult;
+import com.gurukulams.questionbank.service.AnswerService;
+import com.gurukulams.starter.exception.StoreUnavailableException;
+import com.gurukulams.starter.store.ConnectionBoundDataSource;
+import jakarta.validation.ConstraintViolationException;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+class BatchAnswerServiceTest {
+
+    private static final UUID RIGHT = UUID.randomUUID();
+
+    private static final UUID WRONG = UUID.randomUUID();
+
+    private static final UUID INVALID = UUID.randomUUID();
+
+    private final AnswerService answerService =
+            Mockito.mock(AnswerService.class);
+
+    private DataSource dataSource;
+
+    private BatchAnswerService batchAnswerService;
+
+    @BeforeEach
+    void before() throws Exception {
+        final JdbcDataSource ds = new JdbcDataSource();
+        ds.setURL("jdbc:h2:mem:" + UUID.randomUUID());
+        dataSource = Mockito.spy(ds);
+        Mockito.when(answerService.answer(Mockito.any(), Mockito.any()))
+                .thenAnswer(invocation -> {
+                    // Checked on the connection of the batch
+                    try (Connection connection = ConnectionBoundDataSource
+                            .current().getConnection()) {
+                        Assertions.assertTrue(connection.isValid(1));
+                    }
+                    final UUID id = invocation.getArgument(0);
+                    if (id.equals(INVALID)) {
+                        throw new ConstraintViolationException(Set.of());
+                    }
+                    return id.equals(RIGHT);
+                });
+        batchAnswerService = new BatchAnswerService(dataSource,
+                answerService);
+    }
+
+    @Test
+    void testAnswer() throws Exception {
+        final List<AnswerResult> results = batchAnswerService.answer(
+                List.of(new AnswerRequest(WRONG, "4"),
+                        new AnswerRequest(INVALID, ""),
+                        new AnswerRequest(RIGHT, "7")));
+
+        Assertions.assertEquals(List.of(
+                new AnswerResult(WRONG, true, false),
+                new AnswerResult(INVALID, false, false),
+                new AnswerResult(RIGHT, true, true)), results);
+        Mockito.verify(dataSource, Mockito.times(1)).getConnection();
+    }
+
+    @Test
+    void testStoreUnavailableFailsBatch() throws Exception {
+        Mockito.doThrow(new StoreUnavailableException("not ready", 1))
+                .when(answerService).answer(Mockito.eq(WRONG), Mockito.any());
+
+        Assertions.assertThrows(StoreUnavailableException.class,
+                () -> batchAnswerService.answer(
+                        List.of(new AnswerRequest(RIGHT, "7"),
+                                new AnswerRequest(WRONG, "4"))));
+    }
+}
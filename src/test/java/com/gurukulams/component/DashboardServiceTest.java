@@ -0,0 +1,119 @@
+package com.gurukulams.component;
+
+import com.gurukulams.core.payload.Profile;
+import com.gurukulams.core.service.OrgService;
+import com.gurukulams.core.service.ProfileService;
+import com.gurukulams.event.service.EventService;
+import com.gurukulams.payload.Dashboard;
+import com.gurukulams.starter.store.Bulkhead;
+import com.gurukulams.starter.store.Bulkheads;
+import com.gurukulams.starter.store.MigrationCoordinator;
+import com.gurukulams.starter.store.Store;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+class DashboardServiceTest {
+
+    private static final Duration PART_TIMEOUT = Duration.ofMillis(200);
+
+    private final ProfileService profileService =
+            Mockito.mock(ProfileService.class);
+
+    private final OrgService orgService = Mockito.mock(OrgService.class);
+
+    private final EventService eventService =
+            Mockito.mock(EventService.class);
+
+    private final Profile profile = Mockito.mock(Profile.class);
+
+    private MigrationCoordinator migrationCoordinator;
+
+    private DashboardService dashboardService;
+
+    @BeforeEach
+    void before() throws Exception {
+        Mockito.when(profileService.read("tom"))
+                .thenReturn(Optional.of(profile));
+        Mockito.when(profileService.getBuddies("tom")).thenReturn(List.of());
+        Mockito.when(orgService.getOrganizationsOf("tom", Locale.ENGLISH))
+                .thenReturn(List.of());
+        Mockito.when(eventService.list("tom", Locale.ENGLISH))
+                .thenReturn(List.of());
+
+        final Map<Store, Bulkhead> bulkheads = new EnumMap<>(Store.class);
+        for (final Store store : Store.values()) {
+            bulkheads.put(store, new Bulkhead(store, 4,
+                    Duration.ofMillis(10), new SimpleMeterRegistry()));
+        }
+        migrationCoordinator = new MigrationCoordinator();
+        dashboardService = new DashboardService(profileService, orgService,
+                eventService, new Bulkheads(bulkheads),
+                migrationCoordinator, PART_TIMEOUT, 8);
+    }
+
+    @AfterEach
+    void after() {
+        dashboardService.close();
+    }
+
+    @Test
+    void testRead() {
+        final Dashboard dashboard = dashboardService
+                .read("tom", "tom", Locale.ENGLISH).orElseThrow();
+        Assertions.assertSame(profile, dashboard.profile());
+        Assertions.assertEquals(List.of(), dashboard.events());
+        Assertions.assertEquals(List.of(), dashboard.unavailable());
+    }
+
+    @Test
+    void testSlowPartLeftOut() throws Exception {
+        Mockito.when(eventService.list("tom", Locale.ENGLISH))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(PART_TIMEOUT.multipliedBy(10));
+                    return List.of();
+                });
+
+        final long start = System.nanoTime();
+        final Dashboard dashboard = dashboardService
+                .read("tom", "tom", Locale.ENGLISH).orElseThrow();
+
+        Assertions.assertTrue(Duration.ofNanos(System.nanoTime() - start)
+                .compareTo(PART_TIMEOUT.multipliedBy(5)) < 0);
+        Assertions.assertSame(profile, dashboard.profile());
+        Assertions.assertEquals(List.of(), dashboard.orgs());
+        Assertions.assertNull(dashboard.events());
+        Assertions.assertEquals(List.of("events"), dashboard.unavailable());
+    }
+
+    @Test
+    void testStoreNotReadyLeftOut() throws Exception {
+        migrationCoordinator.defer(Store.EVENTS);
+
+        final Dashboard dashboard = dashboardService
+                .read("tom", "tom", Locale.ENGLISH).orElseThrow();
+
+        Assertions.assertNull(dashboard.events());
+        Assertions.assertEquals(List.of("events"), dashboard.unavailable());
+        Mockito.verify(eventService, Mockito.never())
+                .list("tom", Locale.ENGLISH);
+    }
+
+    @Test
+    void testNoProfile() throws Exception {
+        Mockito.when(profileService.read("tom")).thenReturn(Optional.empty());
+
+        Assertions.assertTrue(dashboardService
+                .read("tom", "tom", Locale.ENGLISH).isEmpty());
+    }
+}
@@ -0,0 +1,74 @@
+package com.gurukulams.component;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gurukulams.questionbank.service.QuestionService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.Locale;
+
+class QuestionCacheServiceTest {
+
+    private static final List<String> CATEGORIES = List.of("c1", "c2");
+
+    private final QuestionService questionService =
+            Mockito.mock(QuestionService.class);
+
+    private QuestionCacheService questionCacheService;
+
+    @BeforeEach
+    void before() throws Exception {
+        Mockito.when(questionService.list(Mockito.anyString(),
+                        Mockito.any(), Mockito.anyList()))
+                .thenReturn(List.of());
+        questionCacheService = new QuestionCacheService(questionService,
+                JsonMapper.builder().build(),
+                Caffeine.newBuilder().build());
+    }
+
+    @Test
+    void testHit() throws Exception {
+        final QuestionCacheService.Listing listing = questionCacheService
+                .list("tom", Locale.ENGLISH, CATEGORIES);
+
+        Assertions.assertSame(listing, questionCacheService
+                .list("tom", Locale.ENGLISH, CATEGORIES));
+        Assertions.assertTrue(listing.empty());
+        Assertions.assertNotNull(listing.etag());
+        Mockito.verify(questionService, Mockito.times(1))
+                .list("tom", Locale.ENGLISH, CATEGORIES);
+    }
+
+    @Test
+    void testKeyedByUserAndLocale() throws Exception {
+        questionCacheService.list("tom", Locale.ENGLISH, CATEGORIES);
+        questionCacheService.list("jerry", Locale.ENGLISH, CATEGORIES);
+        questionCacheService.list("tom", Locale.FRENCH, CATEGORIES);
+
+        Mockito.verify(questionService).list("tom", Locale.ENGLISH,
+                CATEGORIES);
+        Mockito.verify(questionService).list("jerry", Locale.ENGLISH,
+                CATEGORIES);
+        Mockito.verify(questionService).list("tom", Locale.FRENCH,
+                CATEGORIES);
+    }
+
+    @Test
+    void testEvict() throws Exception {
+        questionCacheService.list("tom", Locale.ENGLISH, CATEGORIES);
+        questionCacheService.list("tom", Locale.ENGLISH, List.of("c3"));
+
+        questionCacheService.evict(List.of("c2"));
+        questionCacheService.list("tom", Locale.ENGLISH, CATEGORIES);
+        questionCacheService.list("tom", Locale.ENGLISH, List.of("c3"));
+
+        Mockito.verify(questionService, Mockito.times(2))
+                .list("tom", Locale.ENGLISH, CATEGORIES);
+        Mockito.verify(questionService, Mockito.times(1))
+                .list("tom", Locale.ENGLISH, List.of("c3"));
+    }
+}
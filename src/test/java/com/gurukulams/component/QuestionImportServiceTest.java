@@ -0,0 +1,124 @@
+package com.gurukulams.component;
+
+import com.gurukulams.payload.ImportResult;
+import com.gurukulams.questionbank.payload.QuestionType;
+import com.gurukulams.questionbank.service.QuestionService;
+import com.gurukulams.starter.exception.ImportStoppedException;
+import com.gurukulams.starter.store.ConnectionBoundDataSource;
+import jakarta.validation.Validator;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class QuestionImportServiceTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    private final QuestionService questionService =
+            Mockito.mock(QuestionService.class);
+
+    private final Validator validator = Mockito.mock(Validator.class);
+
+    private JdbcDataSource dataSource;
+
+    private QuestionImportService questionImportService;
+
+    @BeforeEach
+    void before() throws SQLException {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID()
+                + ";DB_CLOSE_DELAY=-1");
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE questions (id INT)");
+        }
+        Mockito.when(validator.validate(Mockito.any()))
+                .thenReturn(Set.of());
+        questionImportService = new QuestionImportService(validator,
+                dataSource, questionService, JsonMapper.builder().build(),
+                CHUNK_SIZE);
+    }
+
+    @Test
+    void testImport() throws SQLException {
+        failAt(-1);
+
+        final ImportResult result = importQuestions(5);
+
+        Assertions.assertEquals(5, result.imported());
+        Assertions.assertEquals(List.of(), result.failures());
+        Assertions.assertEquals(5, countQuestions());
+    }
+
+    @Test
+    void testStopsAtBadRecord() throws SQLException {
+        // The second record of the second chunk
+        failAt(3);
+
+        final ImportStoppedException stopped = Assertions.assertThrows(
+                ImportStoppedException.class, () -> importQuestions(6));
+
+        Assertions.assertEquals("Import stopped at record 2",
+                stopped.getMessage());
+        Assertions.assertEquals(2, stopped.getResult().imported());
+        // Only the first chunk is committed, the second is rolled back
+        Assertions.assertEquals(2, countQuestions());
+    }
+
+    // Creates each question as a row on the bound connection, failing at
+    // the given record
+    private void failAt(final int badRecord) throws SQLException {
+        final AtomicInteger records = new AtomicInteger();
+        Mockito.when(questionService.create(Mockito.anyList(),
+                        Mockito.any(), Mockito.any(), Mockito.any(),
+                        Mockito.anyString(), Mockito.any()))
+                .thenAnswer(invocation -> {
+                    final int record = records.getAndIncrement();
+                    try (Connection connection = ConnectionBoundDataSource
+                            .current().getConnection();
+                         Statement statement =
+                                 connection.createStatement()) {
+                        statement.execute("INSERT INTO questions VALUES ("
+                                + record + ")");
+                    }
+                    if (record == badRecord) {
+                        throw new SQLException("Bad record " + record);
+                    }
+                    return Optional.empty();
+                });
+    }
+
+    private ImportResult importQuestions(final int count) {
+        return questionImportService.importQuestions(
+                new ByteArrayInputStream("{}\n".repeat(count)
+                        .getBytes(StandardCharsets.UTF_8)),
+                List.of("c1"), QuestionType.CHOOSE_THE_BEST,
+                Locale.ENGLISH, "tom");
+    }
+
+    private int countQuestions() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "SELECT COUNT(*) FROM questions")) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.gurukulams.component;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compares serializing a chapter listing per request with writing its
+ * pre-serialized (and pre-compressed) bytes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class QuestionListingBenchmark {
+
+    /**
+     * Stand-in for a question of a chapter.
+     */
+    public record SampleQuestion(UUID id, String type, String question,
+                                 String explanation,
+                                 List<String> choices) {
+    }
+
+    @Param({"10", "100"})
+    private int size;
+
+    private JsonMapper jsonMapper;
+
+    private List<SampleQuestion> questions;
+
+    private byte[] json;
+
+    private byte[] gzip;
+
+    private ByteArrayOutputStream out;
+
+    @Setup
+    public void setUp() throws IOException {
+        jsonMapper = JsonMapper.builder().build();
+        questions = IntStream.range(0, size)
+                .mapToObj(i -> new SampleQuestion(UUID.randomUUID(),
+                        "CHOOSE_THE_BEST",
+                        "Which of the following is question " + i + "?",
+                        "Question " + i + " is explained here at length.",
+                        List.of("Option A", "Option B", "Option C",
+                                "Option D")))
+                .toList();
+        json = jsonMapper.writeValueAsBytes(questions);
+        gzip = gzip(json);
+        out = new ByteArrayOutputStream(json.length);
+    }
+
+    @Benchmark
+    public int serialize() {
+        out.reset();
+        jsonMapper.writeValue(out, questions);
+        return out.size();
+    }
+
+    @Benchmark
+    public int serializeAndGzip() throws IOException {
+        out.reset();
+        out.write(gzip(jsonMapper.writeValueAsBytes(questions)));
+        return out.size();
+    }
+
+    @Benchmark
+    public int cachedJson() throws IOException {
+        out.reset();
+        out.write(json);
+        return out.size();
+    }
+
+    @Benchmark
+    public int cachedGzip() throws IOException {
+        out.reset();
+        out.write(gzip);
+        return out.size();
+    }
+
+    private static byte[] gzip(final byte[] content) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipStream = new GZIPOutputStream(bytes)) {
+            gzipStream.write(content);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(QuestionListingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
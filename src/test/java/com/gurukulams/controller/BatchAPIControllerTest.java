@@ -0,0 +1,229 @@
+package com.gurukulams.controller;
+
+import com.gurukulams.core.payload.RegistrationRequest;
+import com.gurukulams.core.service.LearnerService;
+import com.gurukulams.payload.BatchRequest;
+import com.gurukulams.payload.BatchResponse;
+import com.gurukulams.starter.security.payload.AuthenticationRequest;
+import com.gurukulams.starter.security.payload.AuthenticationResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.webtestclient.autoconfigure.AutoConfigureWebTestClient;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+class BatchAPIControllerTest {
+
+    private static final ParameterizedTypeReference<List<BatchResponse>>
+            BATCH_RESPONSES = new ParameterizedTypeReference<>() { };
+
+    private static final int MAX_REQUESTS = 20;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private LearnerService learnerService;
+
+    private String authToken;
+
+    @BeforeEach
+    void before() throws SQLException {
+        learnerService.delete();
+        AuthenticationRequest authenticationRequest =
+                new AuthenticationRequest("tom@email.com", "password");
+        authToken = register(login(authenticationRequest)).authToken();
+    }
+
+    @AfterEach
+    void after() throws SQLException {
+        learnerService.delete();
+    }
+
+    @Test
+    void testQuestionListing() {
+        final String listing = "/api/questions/" + UUID.randomUUID();
+        createQuestion(listing);
+
+        final String etag = this.webTestClient
+                .get()
+                .uri(listing)
+                .header("Authorization", "Bearer " + authToken)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(byte[].class)
+                .getResponseHeaders().getETag();
+
+        // Encoding and conditions of the batch are not of its requests
+        final List<BatchResponse> responses = this.webTestClient
+                .post()
+                .uri("/api/_batch")
+                .header("Authorization", "Bearer " + authToken)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Mono.just(List.of(new BatchRequest(null, listing))),
+                        List.class)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(BATCH_RESPONSES)
+                .returnResult().getResponseBody();
+
+        Assertions.assertEquals(1, responses.size());
+        Assertions.assertEquals(HttpStatus.OK.value(),
+                responses.getFirst().status());
+        Assertions.assertNull(responses.getFirst().headers()
+                .get(HttpHeaders.CONTENT_ENCODING));
+        Assertions.assertTrue(responses.getFirst().body().isArray());
+        Assertions.assertEquals(1, responses.getFirst().body().size());
+    }
+
+    @Test
+    void testOrderAndStatuses() {
+        final List<BatchResponse> responses = batch(List.of(
+                new BatchRequest(null, "/api/auth/me"),
+                new BatchRequest("GET", "/api/orgs/" + UUID.randomUUID()),
+                new BatchRequest("GET", "/api/events"),
+                new BatchRequest("DELETE", "/api/orgs/org-gurukulams")));
+
+        Assertions.assertEquals(List.of(HttpStatus.OK.value(),
+                        HttpStatus.NOT_FOUND.value(),
+                        HttpStatus.NO_CONTENT.value(),
+                        HttpStatus.METHOD_NOT_ALLOWED.value()),
+                responses.stream().map(BatchResponse::status).toList());
+        Assertions.assertTrue(responses.getFirst().body().isObject());
+        Assertions.assertNull(responses.get(1).body());
+    }
+
+    @Test
+    void testRejectedPaths() {
+        final List<String> paths = List.of(
+                "/api/../api/_batch",
+                "/api//orgs",
+                "/api/./orgs",
+                "/api/orgs/%2e%2e",
+                "/api/orgs;jsessionid=1",
+                "/api/_batch",
+                "/actuator/health",
+                "");
+        final List<BatchResponse> responses = batch(paths.stream()
+                .map(path -> new BatchRequest(null, path))
+                .toList());
+
+        Assertions.assertEquals(paths.size(), responses.size());
+        responses.forEach(response -> Assertions.assertEquals(
+                HttpStatus.BAD_REQUEST.value(), response.status()));
+    }
+
+    @Test
+    void testBatchSize() {
+        this.webTestClient
+                .post()
+                .uri("/api/_batch")
+                .header("Authorization", "Bearer " + authToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Mono.just(List.of()), List.class)
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        final List<BatchRequest> tooMany = IntStream
+                .rangeClosed(0, MAX_REQUESTS)
+                .mapToObj(i -> new BatchRequest(null, "/api/auth/me"))
+                .toList();
+        this.webTestClient
+                .post()
+                .uri("/api/_batch")
+                .header("Authorization", "Bearer " + authToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Mono.just(tooMany), List.class)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    private List<BatchResponse> batch(final List<BatchRequest> requests) {
+        return this.webTestClient
+                .post()
+                .uri("/api/_batch")
+                .header("Authorization", "Bearer " + authToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Mono.just(requests), List.class)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(BATCH_RESPONSES)
+                .returnResult().getResponseBody();
+    }
+
+    private void createQuestion(final String listing) {
+        // Long enough for the listing to be kept gzipped as well
+        final Map<String, Object> question = Map.of(
+                "question", "Which of these is a prime number?",
+                "explanation", "A prime has exactly two divisors. "
+                        .repeat(50),
+                "choices", List.of(
+                        Map.of("label", "4", "isAnswer", false),
+                        Map.of("label", "7", "isAnswer", true)));
+        this.webTestClient
+                .post()
+                .uri(listing.replaceFirst("/api/questions/",
+                        "/api/questions/CHOOSE_THE_BEST/"))
+                .header("Authorization", "Bearer " + authToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Mono.just(question), Map.class)
+                .exchange()
+                .expectStatus().isCreated();
+    }
+
+    private AuthenticationResponse login(
+            final AuthenticationRequest authenticationRequest) {
+        return this.webTestClient
+                .post()
+                .uri("/api/auth/login")
+                .body(Mono.just(authenticationRequest),
+                        AuthenticationRequest.class)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus()
+                .isEqualTo(HttpStatus.OK.value())
+                .expectBody(AuthenticationResponse.class)
+                .returnResult().getResponseBody();
+    }
+
+    private AuthenticationResponse register(
+            final AuthenticationResponse authenticationResponse) {
+        RegistrationRequest registrationRequest = new RegistrationRequest();
+        registrationRequest.setName("Sathish Kumar");
+        registrationRequest.setDob(LocalDate.now().minusYears(20L));
+
+        return this.webTestClient
+                .post()
+                .uri("/api/auth/register")
+                .body(Mono.just(registrationRequest), RegistrationRequest.class)
+                .header("Authorization",
+                        "Bearer " + authenticationResponse.registrationToken())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus()
+                .isEqualTo(HttpStatus.CREATED.value())
+                .expectBody(AuthenticationResponse.class)
+                .returnResult().getResponseBody();
+    }
+}
@@ -0,0 +1,218 @@
+package com.gurukulams.controller;
+
+import com.gurukulams.core.payload.RegistrationRequest;
+import com.gurukulams.core.service.LearnerService;
+import com.gurukulams.payload.AnswerResult;
+import com.gurukulams.starter.security.payload.AuthenticationRequest;
+import com.gurukulams.starter.security.payload.AuthenticationResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.webtestclient.autoconfigure.AutoConfigureWebTestClient;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.EntityExchangeResult;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+class QuestionAPIControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private LearnerService learnerService;
+
+    private String authToken;
+
+    @BeforeEach
+    void before() throws SQLException {
+        learnerService.delete();
+        AuthenticationRequest authenticationRequest =
+                new AuthenticationRequest("tom@email.com", "password");
+        authToken = register(login(authenticationRequest)).authToken();
+    }
+
+    @AfterEach
+    void after() throws SQLException {
+        learnerService.delete();
+    }
+
+    @Test
+    void testListingETag() {
+        final String listing = "/api/questions/" + UUID.randomUUID();
+        createQuestion(listing);
+
+        final String etag = list(listing)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(byte[].class)
+                .getResponseHeaders().getETag();
+        Assertions.assertNotNull(etag);
+
+        list(listing)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified();
+
+        // A new question changes the listing, and so its ETag
+        createQuestion(listing);
+        list(listing)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    void testListingGzip() throws IOException {
+        final String listing = "/api/questions/" + UUID.randomUUID();
+        createQuestion(listing);
+
+        final byte[] json = list(listing)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist(HttpHeaders.CONTENT_ENCODING)
+                .expectBody(byte[].class)
+                .returnResult().getResponseBody();
+
+        final EntityExchangeResult<byte[]> gzipped = list(listing)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.CONTENT_ENCODING,
+                        "gzip")
+                .expectBody(byte[].class)
+                .returnResult();
+
+        try (GZIPInputStream in = new GZIPInputStream(
+                new ByteArrayInputStream(gzipped.getResponseBody()))) {
+            Assertions.assertArrayEquals(json, in.readAllBytes());
+        }
+
+        // Each encoding has an ETag of its own
+        list(listing)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .header(HttpHeaders.IF_NONE_MATCH,
+                        gzipped.getResponseHeaders().getETag())
+                .exchange()
+                .expectStatus().isNotModified();
+    }
+
+    @Test
+    void testAnswersRejectsEmptyOrIncomplete() {
+        answers(List.of()).expectStatus().isBadRequest();
+
+        final List<Object> withNull = new ArrayList<>();
+        withNull.add(null);
+        answers(withNull).expectStatus().isBadRequest();
+
+        answers(List.of(Map.of("answer", "7")))
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void testAnswersInOrder() {
+        final List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+
+        final List<AnswerResult> results = answers(ids.stream()
+                .map(id -> Map.of("questionId", id, "answer", "7"))
+                .toList())
+                .expectStatus().isOk()
+                .expectBodyList(AnswerResult.class)
+                .returnResult().getResponseBody();
+
+        Assertions.assertEquals(ids, results.stream()
+                .map(AnswerResult::questionId)
+                .toList());
+    }
+
+    private WebTestClient.ResponseSpec answers(final List<?> answers) {
+        return this.webTestClient
+                .post()
+                .uri("/api/questions/_answers")
+                .header("Authorization", "Bearer " + authToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(answers)
+                .exchange();
+    }
+
+    private WebTestClient.RequestHeadersSpec<?> list(final String listing) {
+        return this.webTestClient
+                .get()
+                .uri(listing)
+                .header("Authorization", "Bearer " + authToken)
+                .accept(MediaType.APPLICATION_JSON);
+    }
+
+    private void createQuestion(final String listing) {
+        // Long enough for the listing to be kept gzipped as well
+        final Map<String, Object> question = Map.of(
+                "question", "Which of these is a prime number?",
+                "explanation", "A prime has exactly two divisors. "
+                        .repeat(50),
+                "choices", List.of(
+                        Map.of("label", "4", "isAnswer", false),
+                        Map.of("label", "7", "isAnswer", true)));
+        this.webTestClient
+                .post()
+                .uri(listing.replaceFirst("/api/questions/",
+                        "/api/questions/CHOOSE_THE_BEST/"))
+                .header("Authorization", "Bearer " + authToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Mono.just(question), Map.class)
+                .exchange()
+                .expectStatus().isCreated();
+    }
+
+    private AuthenticationResponse login(
+            final AuthenticationRequest authenticationRequest) {
+        return this.webTestClient
+                .post()
+                .uri("/api/auth/login")
+                .body(Mono.just(authenticationRequest),
+                        AuthenticationRequest.class)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus()
+                .isEqualTo(HttpStatus.OK.value())
+                .expectBody(AuthenticationResponse.class)
+                .returnResult().getResponseBody();
+    }
+
+    private AuthenticationResponse register(
+            final AuthenticationResponse authenticationResponse) {
+        RegistrationRequest registrationRequest = new RegistrationRequest();
+        registrationRequest.setName("Sathish Kumar");
+        registrationRequest.setDob(LocalDate.now().minusYears(20L));
+
+        return this.webTestClient
+                .post()
+                .uri("/api/auth/register")
+                .body(Mono.just(registrationRequest), RegistrationRequest.class)
+                .header("Authorization",
+                        "Bearer " + authenticationResponse.registrationToken())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus()
+                .isEqualTo(HttpStatus.CREATED.value())
+                .expectBody(AuthenticationResponse.class)
+                .returnResult().getResponseBody();
+    }
+}
@@ -0,0 +1,109 @@
+package com.gurukulams.starter.security.cache;
+
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+
+class NearCacheTokenStoreTest {
+
+    private static final Duration NEAR_TTL = Duration.ofMillis(200);
+
+    private TokenStore remote;
+
+    private TokenStore node1;
+
+    private TokenStore node2;
+
+    @BeforeEach
+    void before() {
+        JdbcDataSource ds = new JdbcDataSource();
+        ds.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+
+        Flyway.configure()
+                .dataSource(ds)
+                .locations("db/engine")
+                .table("engine_schema_history")
+                .load()
+                .migrate();
+
+        remote = new JdbcTokenStore(ds);
+        node1 = new NearCacheTokenStore(new CaffeineTokenStore(100),
+                remote, NEAR_TTL);
+        node2 = new NearCacheTokenStore(new CaffeineTokenStore(100),
+                remote, NEAR_TTL);
+    }
+
+    @Test
+    void testSharedAcrossNodes() {
+        node1.put("token", "jwt", Duration.ofMinutes(1));
+        Assertions.assertEquals("jwt", node2.get("token"));
+
+        node1.evict("token");
+        Assertions.assertNull(node1.get("token"));
+        Assertions.assertNull(remote.get("token"));
+    }
+
+    @Test
+    void testEvictionSeenAfterNearExpiry() throws InterruptedException {
+        node1.put("token", "jwt", Duration.ofMinutes(1));
+        Assertions.assertEquals("jwt", node2.get("token"));
+
+        node1.evict("token");
+        Thread.sleep(NEAR_TTL.toMillis() * 2);
+        Assertions.assertNull(node2.get("token"));
+    }
+
+    @Test
+    void testMissKeptTillNearExpiry() throws InterruptedException {
+        Assertions.assertNull(node1.get("jti"));
+
+        // Stored by another node, unseen till the miss expires here
+        remote.put("jti", "denied", Duration.ofMinutes(1));
+        Assertions.assertNull(node1.get("jti"));
+        Thread.sleep(NEAR_TTL.toMillis() * 2);
+        Assertions.assertEquals("denied", node1.get("jti"));
+
+        // Stored by this node, seen at once
+        Assertions.assertNull(node1.get("token"));
+        node1.put("token", "jwt", Duration.ofMinutes(1));
+        Assertions.assertEquals("jwt", node1.get("token"));
+    }
+
+    @Test
+    void testExpiry() throws InterruptedException {
+        node1.put("token", "jwt", Duration.ofMillis(100));
+        Thread.sleep(NEAR_TTL.toMillis() * 2);
+        Assertions.assertNull(node1.get("token"));
+        Assertions.assertNull(node2.get("token"));
+    }
+
+    @Test
+    void testRemoveOnlyOnceAcrossNodes() {
+        node1.put("token", "jwt", Duration.ofMinutes(1));
+        Assertions.assertEquals("jwt", node2.get("token"));
+
+        Assertions.assertFalse(node1.remove("token", "other"));
+        Assertions.assertTrue(node2.remove("token", "jwt"));
+        Assertions.assertFalse(node1.remove("token", "jwt"));
+        Assertions.assertNull(node2.get("token"));
+    }
+
+    @Test
+    void testPutIfAbsentOnlyOnceAcrossNodes() throws InterruptedException {
+        Assertions.assertTrue(node1.putIfAbsent("jti", "denied",
+                Duration.ofMillis(100)));
+        Assertions.assertFalse(node2.putIfAbsent("jti", "denied",
+                Duration.ofMinutes(1)));
+        Assertions.assertEquals("denied", node2.get("jti"));
+
+        // An expired entry no longer holds the token
+        Thread.sleep(NEAR_TTL.toMillis() * 2);
+        Assertions.assertTrue(node2.putIfAbsent("jti", "denied",
+                Duration.ofMinutes(1)));
+    }
+}
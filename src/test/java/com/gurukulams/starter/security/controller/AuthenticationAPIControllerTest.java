@@ -27,6 +27,12 @@ import reactor.core.publisher.Mono;
 
 import java.sql.SQLException;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 @SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
@@ -55,6 +61,9 @@ class AuthenticationAPIControllerTest {
     @DynamicPropertySource
     static void authProperties(DynamicPropertyRegistry registry) {
         registry.add("app.auth.tokenExpirationMsec", () -> 1500);
+        // Losers of a concurrent refresh are rejected from this address,
+        // and are to be answered 401 rather than 429
+        registry.add("app.auth.rejectionLimit", () -> 100);
     }
 
     @BeforeEach
@@ -119,6 +128,46 @@ class AuthenticationAPIControllerTest {
 
     }
 
+    @Test
+    void testConcurrentRefresh() throws Exception {
+        AuthenticationRequest authenticationRequest = new AuthenticationRequest(
+                this.signupRequest.getEmail(),
+                this.signupRequest.getPassword());
+
+        AuthenticationResponse authenticationResponse =
+                register(authenticationRequest, login(authenticationRequest));
+
+        // Wait for Token Expiry
+        TimeUnit.MILLISECONDS.sleep(appProperties.getAuth().getTokenExpirationMsec());
+
+        final int attempts = 32;
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<Integer>> statuses = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(attempts)) {
+            for (int i = 0; i < attempts; i++) {
+                statuses.add(executor.submit(() -> {
+                    start.await();
+                    return exchangeRefresh(authenticationResponse.authToken(),
+                            authenticationResponse.refreshToken())
+                            .expectBody().returnResult()
+                            .getStatus().value();
+                }));
+            }
+            start.countDown();
+        }
+
+        int rotations = 0;
+        for (Future<Integer> status : statuses) {
+            if (status.get() == HttpStatus.OK.value()) {
+                rotations++;
+            } else {
+                Assertions.assertEquals(HttpStatus.UNAUTHORIZED.value(),
+                        status.get());
+            }
+        }
+        Assertions.assertEquals(1, rotations);
+    }
+
     @Test
     void testSwapping() throws InterruptedException {
         AuthenticationRequest authenticationRequest = new AuthenticationRequest(
@@ -223,6 +272,12 @@ class AuthenticationAPIControllerTest {
 
     private StatusAssertions refresh(final String authToken,
                                      final String rToken) {
+        return exchangeRefresh(authToken, rToken)
+                .expectStatus();
+    }
+
+    private WebTestClient.ResponseSpec exchangeRefresh(final String authToken,
+                                                       final String rToken) {
         RefreshToken refreshToken = new RefreshToken(rToken);
         return this.webTestClient
                 .post()
@@ -230,8 +285,7 @@ class AuthenticationAPIControllerTest {
                 .body(Mono.just(refreshToken), RefreshToken.class)
                 .header("Authorization", "Bearer " + authToken)
                 .accept(MediaType.APPLICATION_JSON)
-                .exchange()
-                .expectStatus();
+                .exchange();
     }
 
     private StatusAssertions logout(final AuthenticationRequest authenticationRequest, final AuthenticationResponse authenticationResponse) {
@@ -0,0 +1,98 @@
+package com.gurukulams.starter.security.filter;
+
+import com.gurukulams.starter.security.cache.RejectedTokens;
+import com.gurukulams.starter.security.exception.TooManyRequestsException;
+import com.gurukulams.starter.security.service.AuthenticationService;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.time.Duration;
+
+class TokenAuthenticationFilterTest {
+
+    private static final int REJECTION_LIMIT = 2;
+
+    private static final Duration WINDOW = Duration.ofMinutes(1);
+
+    private final AuthenticationService authenticationService =
+            Mockito.mock(AuthenticationService.class);
+
+    private final HandlerExceptionResolver handlerExceptionResolver =
+            Mockito.mock(HandlerExceptionResolver.class);
+
+    private TokenAuthenticationFilter filter;
+
+    @BeforeEach
+    void before() {
+        filter = new TokenAuthenticationFilter(authenticationService,
+                new RejectedTokens(Duration.ofSeconds(30), REJECTION_LIMIT,
+                        WINDOW),
+                handlerExceptionResolver);
+    }
+
+    @AfterEach
+    void after() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testExpiredTokensNeverLimited() throws Exception {
+        Mockito.when(authenticationService.getAuthentication(
+                        Mockito.anyString(), Mockito.anyString()))
+                .thenThrow(new ExpiredJwtException(null, null, "expired"));
+
+        for (int i = 0; i < REJECTION_LIMIT * 10; i++) {
+            final MockFilterChain chain = new MockFilterChain();
+            filter.doFilter(request("expired" + i),
+                    new MockHttpServletResponse(), chain);
+            // Passed on unauthenticated, to be answered 401
+            Assertions.assertNotNull(chain.getRequest());
+            Assertions.assertNull(SecurityContextHolder.getContext()
+                    .getAuthentication());
+        }
+        Mockito.verifyNoInteractions(handlerExceptionResolver);
+    }
+
+    @Test
+    void testInvalidTokensLimited() throws Exception {
+        Mockito.when(authenticationService.getAuthentication(
+                        Mockito.anyString(), Mockito.anyString()))
+                .thenThrow(new MalformedJwtException("malformed"));
+
+        for (int i = 0; i <= REJECTION_LIMIT; i++) {
+            final MockFilterChain chain = new MockFilterChain();
+            filter.doFilter(request("forged" + i),
+                    new MockHttpServletResponse(), chain);
+            Assertions.assertEquals(i < REJECTION_LIMIT,
+                    chain.getRequest() != null);
+        }
+
+        final ArgumentCaptor<Exception> exception =
+                ArgumentCaptor.forClass(Exception.class);
+        Mockito.verify(handlerExceptionResolver).resolveException(
+                Mockito.any(), Mockito.any(), Mockito.isNull(),
+                exception.capture());
+        Assertions.assertEquals(WINDOW.toSeconds(),
+                ((TooManyRequestsException) exception.getValue())
+                        .getRetryAfterSeconds());
+    }
+
+    private MockHttpServletRequest request(final String token) {
+        final MockHttpServletRequest request =
+                new MockHttpServletRequest("GET", "/api/auth/me");
+        request.setRemoteAddr("10.0.0.1");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
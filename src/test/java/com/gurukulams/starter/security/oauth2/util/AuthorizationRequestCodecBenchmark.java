@@ -0,0 +1,106 @@
+package com.gurukulams.starter.security.oauth2.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the Java serialized authorization request cookie with the
+ * signed json one. Cookie sizes are printed on set up.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class AuthorizationRequestCodecBenchmark {
+
+    private static final String TOKEN_SECRET = "926D96C90030DD58429D2751926D96C90030DD58429D2751AC1BDBBC926D96C90030DD58429D2751AC1BDBBC";
+
+    private static final int MAX_AGE_SECONDS = 180;
+
+    private AuthorizationRequestCodec codec;
+
+    private OAuth2AuthorizationRequest authorizationRequest;
+
+    private String serialized;
+
+    private String encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        codec = new AuthorizationRequestCodec(TOKEN_SECRET);
+        authorizationRequest = OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://accounts.google.com/o/oauth2/v2/auth")
+                .clientId("1234567890-abcdefghijklmnop.apps.googleusercontent.com")
+                .redirectUri("http://localhost:8080/oauth2/callback/google")
+                .scopes(Set.of("email", "profile"))
+                .state(UUID.randomUUID().toString())
+                .additionalParameters(Map.of("nonce",
+                        UUID.randomUUID().toString()))
+                .attributes(Map.of("registration_id", "google",
+                        "nonce", UUID.randomUUID().toString()))
+                .build();
+        serialized = serialize();
+        encoded = encode();
+        System.out.printf("%nserialized cookie: %d bytes, encoded cookie:"
+                + " %d bytes%n", serialized.length(), encoded.length());
+    }
+
+    @Benchmark
+    public String serialize() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(authorizationRequest);
+        }
+        return Base64.getUrlEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    @Benchmark
+    public Object deserialize() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(
+                        Base64.getUrlDecoder().decode(serialized)))) {
+            return in.readObject();
+        }
+    }
+
+    @Benchmark
+    public String encode() {
+        return codec.encode(authorizationRequest, MAX_AGE_SECONDS);
+    }
+
+    @Benchmark
+    public OAuth2AuthorizationRequest decode() {
+        return codec.decode(encoded);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AuthorizationRequestCodecBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,108 @@
+package com.gurukulams.starter.security.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares the login that retries after signing up (verifying the new
+ * user's password again) with the single pass login, for first time
+ * and returning users. Learners are held in a map, so the cost is
+ * that of the password hashing and lookups.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class LoginBenchmark {
+
+    private static final String PASSWORD = "password";
+
+    private final PasswordEncoder passwordEncoder =
+            new BCryptPasswordEncoder();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private Map<String, String> learners;
+
+    /**
+     * Hash matched against for unknown users, as DaoAuthenticationProvider
+     * does to mitigate timing attacks.
+     */
+    private String userNotFoundHash;
+
+    @Setup
+    public void setUp() {
+        learners = new ConcurrentHashMap<>();
+        learners.put("tom", passwordEncoder.encode(PASSWORD));
+        userNotFoundHash = passwordEncoder.encode("userNotFoundPassword");
+    }
+
+    @Benchmark
+    public boolean retryingFirstTime() {
+        return retryingLogin("user" + sequence.incrementAndGet());
+    }
+
+    @Benchmark
+    public boolean singlePassFirstTime() {
+        return singlePassLogin("user" + sequence.incrementAndGet());
+    }
+
+    @Benchmark
+    public boolean retryingReturning() {
+        return retryingLogin("tom");
+    }
+
+    @Benchmark
+    public boolean singlePassReturning() {
+        return singlePassLogin("tom");
+    }
+
+    private boolean retryingLogin(final String userName) {
+        final String hash = learners.get(userName);
+        if (hash == null) {
+            passwordEncoder.matches(PASSWORD, userNotFoundHash);
+        } else if (passwordEncoder.matches(PASSWORD, hash)) {
+            return true;
+        }
+        if (learners.get(userName) == null) {
+            learners.put(userName, passwordEncoder.encode(PASSWORD));
+            return retryingLogin(userName);
+        }
+        return false;
+    }
+
+    private boolean singlePassLogin(final String userName) {
+        final String hash = learners.get(userName);
+        if (hash == null) {
+            learners.put(userName, passwordEncoder.encode(PASSWORD));
+            return true;
+        }
+        return passwordEncoder.matches(PASSWORD, hash);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(LoginBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
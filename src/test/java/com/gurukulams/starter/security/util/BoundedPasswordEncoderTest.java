@@ -0,0 +1,178 @@
+package com.gurukulams.starter.security.util;
+
+import com.gurukulams.starter.exception.GlobalExceptionHandler;
+import com.gurukulams.starter.security.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class BoundedPasswordEncoderTest {
+
+    private static final Duration DEADLINE = Duration.ofSeconds(5);
+
+    private static final int WORKERS =
+            Runtime.getRuntime().availableProcessors();
+
+    private final SimpleMeterRegistry meterRegistry =
+            new SimpleMeterRegistry();
+
+    /**
+     * Holds every hash of the slow delegate till released.
+     */
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final ExecutorService callers =
+            Executors.newVirtualThreadPerTaskExecutor();
+
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void after() {
+        release.countDown();
+        callers.shutdownNow();
+        encoder.close();
+    }
+
+    @Test
+    void testShedWhenQueueFull() throws Exception {
+        encoder = new BoundedPasswordEncoder(slowDelegate(), 1, DEADLINE,
+                meterRegistry);
+        final List<Future<String>> held = fillWorkersAndQueue();
+
+        final TooManyRequestsException exception = Assertions.assertThrows(
+                TooManyRequestsException.class,
+                () -> encoder.encode("overflow"));
+        Assertions.assertEquals(DEADLINE.toSeconds(),
+                exception.getRetryAfterSeconds());
+        Assertions.assertEquals(1.0, rejected());
+
+        // The held hashes are done once the delegate is released
+        release.countDown();
+        for (final Future<String> future : held) {
+            Assertions.assertEquals("hashed",
+                    future.get(DEADLINE.toMillis(), TimeUnit.MILLISECONDS));
+        }
+        Assertions.assertEquals(1.0, rejected());
+    }
+
+    @Test
+    void testShedPastDeadline() {
+        encoder = new BoundedPasswordEncoder(slowDelegate(), 1,
+                Duration.ofMillis(100), meterRegistry);
+
+        final TooManyRequestsException exception = Assertions.assertThrows(
+                TooManyRequestsException.class,
+                () -> encoder.matches("password", "hashed"));
+        // Never less than a second
+        Assertions.assertEquals(1, exception.getRetryAfterSeconds());
+        Assertions.assertEquals(1.0, rejected());
+    }
+
+    @Test
+    void testShedAnsweredTooManyRequests() throws Exception {
+        encoder = new BoundedPasswordEncoder(slowDelegate(), 1, DEADLINE,
+                meterRegistry);
+        fillWorkersAndQueue();
+
+        final MockMvc mockMvc = MockMvcBuilders
+                .standaloneSetup(new LoginController(encoder))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+        mockMvc.perform(get("/login"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER,
+                        String.valueOf(DEADLINE.toSeconds())));
+        Assertions.assertEquals(1.0, rejected());
+    }
+
+    /**
+     * Occupies every worker and the single queue slot with held hashes.
+     *
+     * @return the held hashes
+     */
+    private List<Future<String>> fillWorkersAndQueue()
+            throws InterruptedException {
+        final List<Future<String>> held = new ArrayList<>();
+        for (int i = 0; i <= WORKERS; i++) {
+            held.add(callers.submit(() -> encoder.encode("held")));
+        }
+        final long waitUntil = System.nanoTime()
+                + DEADLINE.toNanos() / 2;
+        while (queued() < 1) {
+            Assertions.assertTrue(System.nanoTime() < waitUntil,
+                    "Hashes were not queued");
+            Thread.sleep(10);
+        }
+        return held;
+    }
+
+    private PasswordEncoder slowDelegate() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(final CharSequence rawPassword) {
+                await();
+                return "hashed";
+            }
+
+            @Override
+            public boolean matches(final CharSequence rawPassword,
+                                   final String encodedPassword) {
+                await();
+                return true;
+            }
+        };
+    }
+
+    private void await() {
+        try {
+            release.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double queued() {
+        return meterRegistry.get("auth.password.hash.queue").gauge()
+                .value();
+    }
+
+    private double rejected() {
+        return meterRegistry.get("auth.password.hash.rejected").counter()
+                .count();
+    }
+
+    @RestController
+    static final class LoginController {
+
+        private final PasswordEncoder passwordEncoder;
+
+        LoginController(final PasswordEncoder aPasswordEncoder) {
+            this.passwordEncoder = aPasswordEncoder;
+        }
+
+        @GetMapping("/login")
+        String login() {
+            return passwordEncoder.encode("password");
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.gurukulams.starter.security.util;
+
+import com.gurukulams.starter.security.config.AppProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the static methods JWTGenerator had, kept in
+ * JWTGeneratorBaseline, with the reusable JWTCodec.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class JWTCodecBenchmark {
+
+    private static final String TOKEN_SECRET = "926D96C90030DD58429D2751926D96C90030DD58429D2751AC1BDBBC926D96C90030DD58429D2751AC1BDBBC";
+
+    private static final long TOKEN_EXPIRATION = TimeUnit.HOURS.toMillis(1);
+
+    private static final String REQUEST_URI = "/api/auth/me";
+
+    private JWTCodec jwtCodec;
+
+    private String jwt;
+
+    @Setup
+    public void setUp() {
+        AppProperties.Auth auth = new AppProperties.Auth();
+        auth.setTokenSecret(TOKEN_SECRET);
+        auth.setTokenExpirationMsec(TOKEN_EXPIRATION);
+        jwtCodec = new JWTCodec(auth);
+        jwt = jwtCodec.compact("tom");
+    }
+
+    @Benchmark
+    public String staticUserName() {
+        return JWTGeneratorBaseline.getUserNameFromToken(REQUEST_URI, jwt,
+                TOKEN_SECRET);
+    }
+
+    @Benchmark
+    public String codecUserName() {
+        return jwtCodec.getUserName(REQUEST_URI, jwt);
+    }
+
+    @Benchmark
+    public boolean staticIsExpired() {
+        return JWTGeneratorBaseline.isExpired(jwt, TOKEN_SECRET);
+    }
+
+    @Benchmark
+    public boolean codecIsExpired() {
+        return jwtCodec.isExpired(jwt);
+    }
+
+    @Benchmark
+    public String staticCompact() {
+        return JWTGeneratorBaseline.getJWTCompact("tom", TOKEN_EXPIRATION,
+                TOKEN_SECRET);
+    }
+
+    @Benchmark
+    public String codecCompact() {
+        return jwtCodec.compact("tom");
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JWTCodecBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
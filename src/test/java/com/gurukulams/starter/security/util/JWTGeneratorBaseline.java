@@ -0,0 +1,70 @@
+package com.gurukulams.starter.security.util;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * The static JWTGenerator methods that JWTCodec replaced, kept as the
+ * baseline of JWTCodecBenchmark. They build a parser, and derive the
+ * key, on every call.
+ */
+final class JWTGeneratorBaseline {
+
+    private JWTGeneratorBaseline() {
+    }
+
+    static boolean isExpired(final String token,
+                             final String tokenSecret) {
+        try {
+            Jwts.parser()
+                    .verifyWith(getSignInKey(tokenSecret))
+                    .build()
+                    .parseSignedClaims(token);
+        } catch (final ExpiredJwtException ex) {
+            return true;
+        }
+        return false;
+    }
+
+    static String getJWTCompact(final String userName,
+                                final long expiration,
+                                final String tokenSecret) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .claims(new HashMap<>())
+                .subject(userName)
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + expiration))
+                .signWith(getSignInKey(tokenSecret),
+                        Jwts.SIG.HS256).compact();
+    }
+
+    static String getUserNameFromToken(final String requestURI,
+                                       final String jwtToken,
+                                       final String tokenSecret) {
+        try {
+            return Jwts.parser()
+                    .verifyWith(getSignInKey(tokenSecret))
+                    .build()
+                    .parseSignedClaims(jwtToken)
+                    .getPayload()
+                    .getSubject();
+        } catch (final ExpiredJwtException ex) {
+            if (requestURI.equals("/api/auth/logout")
+                    || requestURI.equals("/api/auth/refresh")) {
+                return ex.getClaims().getSubject();
+            }
+            throw ex;
+        }
+    }
+
+    private static SecretKey getSignInKey(final String tokenSecret) {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(tokenSecret));
+    }
+}
@@ -0,0 +1,45 @@
+package com.gurukulams.starter.store;
+
+import com.gurukulams.starter.exception.StoreUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.UUID;
+
+class BulkheadTest {
+
+    @Test
+    void testRejectsWhenFull() throws Exception {
+        final Bulkhead bulkhead = new Bulkhead(Store.EVENTS, 1,
+                Duration.ofMillis(10), new SimpleMeterRegistry());
+
+        final long enteredAt = bulkhead.enter();
+        Assertions.assertThrows(StoreUnavailableException.class,
+                () -> bulkhead.call(() -> "inside"));
+        bulkhead.exit(enteredAt);
+
+        Assertions.assertEquals("inside", bulkhead.call(() -> "inside"));
+        Assertions.assertEquals(0, bulkhead.getActive());
+    }
+
+    @Test
+    void testCallTimeout() throws Exception {
+        final JdbcDataSource ds = new JdbcDataSource();
+        ds.setURL("jdbc:h2:mem:" + UUID.randomUUID());
+        final DataSource bounded = new QueryTimeoutDataSource(ds,
+                Duration.ofMillis(1500));
+
+        try (Connection connection = bounded.getConnection();
+             PreparedStatement ps = connection.prepareStatement("SELECT 1")) {
+            // Rounded up to whole seconds
+            Assertions.assertEquals(2, ps.getQueryTimeout());
+        }
+        Assertions.assertSame(ds, QueryTimeoutDataSource.unbounded(bounded));
+    }
+}
@@ -0,0 +1,122 @@
+package com.gurukulams.starter.store;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves a burst of requests, each holding a pooled H2 connection for
+ * a query and a millisecond of simulated I/O, on a Tomcat sized
+ * platform thread pool and on virtual threads behind the
+ * ConcurrencyLimitingDataSource.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class VirtualThreadsBenchmark {
+
+    private static final int TOMCAT_THREADS = 200;
+
+    private static final int POOL_SIZE = 10;
+
+    @Param({"1000", "10000"})
+    private int requests;
+
+    private HikariDataSource hikariDataSource;
+
+    private DataSource limitedDataSource;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:" + UUID.randomUUID()
+                + ";DB_CLOSE_DELAY=-1");
+        config.setMaximumPoolSize(POOL_SIZE);
+        config.setConnectionTimeout(TimeUnit.MINUTES.toMillis(1));
+        hikariDataSource = new HikariDataSource(config);
+        limitedDataSource = new ConcurrencyLimitingDataSource(
+                hikariDataSource, POOL_SIZE, Duration.ofMinutes(1));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        hikariDataSource.close();
+    }
+
+    @Benchmark
+    public int platformThreads() throws Exception {
+        try (ExecutorService executor =
+                     Executors.newFixedThreadPool(TOMCAT_THREADS)) {
+            return serve(executor, hikariDataSource);
+        }
+    }
+
+    @Benchmark
+    public int virtualThreads() throws Exception {
+        try (ExecutorService executor =
+                     Executors.newVirtualThreadPerTaskExecutor()) {
+            return serve(executor, limitedDataSource);
+        }
+    }
+
+    private int serve(final ExecutorService executor,
+                      final DataSource dataSource) throws Exception {
+        List<Future<Integer>> responses = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            responses.add(executor.submit(() -> query(dataSource)));
+        }
+        int total = 0;
+        for (Future<Integer> response : responses) {
+            total += response.get();
+        }
+        return total;
+    }
+
+    private static int query(final DataSource dataSource)
+            throws SQLException, InterruptedException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement("SELECT 1");
+             ResultSet rs = ps.executeQuery()) {
+            Thread.sleep(1);
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(VirtualThreadsBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}